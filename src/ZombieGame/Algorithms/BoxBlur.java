@@ -2,53 +2,80 @@ package ZombieGame.Algorithms;
 
 public class BoxBlur {
     /**
-     * Applies a box blur to a 2D array.
+     * Applies a box blur to a row-major buffer without allocating.
      * 
-     * @param map The input 2D double array (values 0..1)
+     * @param src The input values (values 0..1), row by row
+     * @param dst The buffer for the blurred values, could be the same as {@code src}
+     * @param scratch A buffer for the intermediate values, must not be {@code src} or {@code dst}
+     * @param width The number of values in a row
+     * @param height The number of rows
      * @param radius How far neighbors influence the value
-     * @return A new 2D array with blurred values
      */
-    public static double[][] blur(double[][] src, int radius) {
-        int height = src.length;
-        int width = src[0].length;
-        double[][] result = new double[height][width];
+    public static void blur(double[] src, double[] dst, double[] scratch, int width, int height, int radius) {
+        int size = width * height;
+        if (src.length < size || dst.length < size || scratch.length < size) {
+            throw new IllegalArgumentException("buffers must have at least width * height values");
+        }
+        if (scratch == src || scratch == dst) {
+            throw new IllegalArgumentException("scratch must be a separate buffer");
+        }
+        int count = 2 * radius + 1;
 
         // Horizontal pass
         for (int y = 0; y < height; y++) {
+            int row = y * width;
             double sum = 0;
             for (int x = -radius; x <= radius; x++) {
                 int xi = clamp(x, 0, width - 1);
-                sum += src[y][xi];
+                sum += src[row + xi];
             }
             for (int x = 0; x < width; x++) {
-                result[y][x] = sum / (2 * radius + 1);
+                scratch[row + x] = sum / count;
 
                 int removeIndex = clamp(x - radius, 0, width - 1);
                 int addIndex = clamp(x + radius + 1, 0, width - 1);
 
-                sum += src[y][addIndex] - src[y][removeIndex];
+                sum += src[row + addIndex] - src[row + removeIndex];
             }
         }
 
-        // Vertical pass
-        double[][] finalResult = new double[height][width];
+        // Vertical pass, the running sums of all columns are kept in the rows of dst so every loop runs over consecutive values
         for (int x = 0; x < width; x++) {
-            double sum = 0;
-            for (int y = -radius; y <= radius; y++) {
-                int yi = clamp(y, 0, height - 1);
-                sum += result[yi][x];
+            dst[x] = 0;
+        }
+        for (int y = -radius; y <= radius; y++) {
+            int sourceRow = clamp(y, 0, height - 1) * width;
+            for (int x = 0; x < width; x++) {
+                dst[x] += scratch[sourceRow + x];
             }
-            for (int y = 0; y < height; y++) {
-                finalResult[y][x] = sum / (2 * radius + 1);
-
-                int removeIndex = clamp(y - radius, 0, height - 1);
-                int addIndex = clamp(y + radius + 1, 0, height - 1);
-
-                sum += result[addIndex][x] - result[removeIndex][x];
+        }
+        for (int y = 1; y < height; y++) {
+            int row = y * width;
+            int previousRow = row - width;
+            int removeRow = clamp(y - 1 - radius, 0, height - 1) * width;
+            int addRow = clamp(y + radius, 0, height - 1) * width;
+            for (int x = 0; x < width; x++) {
+                dst[row + x] = dst[previousRow + x] + (scratch[addRow + x] - scratch[removeRow + x]);
             }
         }
+        for (int i = 0; i < size; i++) {
+            dst[i] /= count;
+        }
+    }
 
-        return finalResult;
+    /**
+     * Applies a box blur to a 2D array.
+     * 
+     * @param map The input 2D double array (values 0..1)
+     * @param radius How far neighbors influence the value
+     * @return A new 2D array with blurred values
+     */
+    public static double[][] blur(double[][] src, int radius) {
+        int height = src.length;
+        int width = src[0].length;
+        double[] values = GaussianBlur.flatten(src, width, height);
+        blur(values, values, new double[width * height], width, height, radius);
+        return GaussianBlur.unflatten(values, width, height);
     }
 
     private static int clamp(int value, int min, int max) {
@@ -1,9 +1,18 @@
 package ZombieGame.Algorithms;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 // Source: https://www.codestudy.net/blog/fastest-gaussian-blur-implementation/
 public class GaussianBlur {
+    // Normalized kernels by radius and sigma, a kernel is never changed once it is created
+    private static final ConcurrentHashMap<Long, double[]> kernels = new ConcurrentHashMap<>();
+
+    private static double[] gaussianKernel(int radius, float sigma) {
+        long key = ((long) radius << 32) | (Float.floatToIntBits(sigma) & 0xFFFFFFFFL);
+        return kernels.computeIfAbsent(key, k -> createKernel(radius, sigma));
+    }
 
-    private static double[] gaussianKernel(int radius, double sigma) {
+    private static double[] createKernel(int radius, double sigma) {
         int size = radius * 2 + 1;
         double[] kernel = new double[size];
         double sum = 0.0;
@@ -22,36 +31,68 @@ public class GaussianBlur {
         return kernel;
     }
 
-    private static double[][] convolveHorizontal(double[][] src, int width, int height, double[] kernel, int radius) {
-        double[][] dst = new double[height][width];
-
+    private static void convolveHorizontal(double[] src, double[] dst, int width, int height, double[] kernel, int radius) {
         for (int y = 0; y < height; y++) {
+            int row = y * width;
             for (int x = 0; x < width; x++) {
                 double sum = 0;
-                for (int i = -radius; i <= radius; i++) {
-                    int xi = Math.max(0, Math.min(x + i, width - 1));
-                    sum += src[y][xi] * kernel[i + radius];
+                if (x >= radius && x + radius < width) {
+                    // Inside the row no index has to be clamped
+                    int start = row + x - radius;
+                    for (int i = 0; i < kernel.length; i++) {
+                        sum += src[start + i] * kernel[i];
+                    }
+                } else {
+                    for (int i = -radius; i <= radius; i++) {
+                        int xi = Math.max(0, Math.min(x + i, width - 1));
+                        sum += src[row + xi] * kernel[i + radius];
+                    }
                 }
-                dst[y][x] = sum;
+                dst[row + x] = sum;
             }
         }
-        return dst;
     }
 
-    private static double[][] convolveVertical(double[][] src, int width, int height, double[] kernel, int radius) {
-        double[][] dst = new double[height][width];
-
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                double sum = 0;
-                for (int i = -radius; i <= radius; i++) {
-                    int yi = Math.max(0, Math.min(y + i, height - 1));
-                    sum += src[yi][x] * kernel[i + radius];
+    private static void convolveVertical(double[] src, double[] dst, int width, int height, double[] kernel, int radius) {
+        // Accumulate whole rows, so the inner loop runs over consecutive values
+        for (int y = 0; y < height; y++) {
+            int row = y * width;
+            for (int x = 0; x < width; x++) {
+                dst[row + x] = 0;
+            }
+            for (int i = -radius; i <= radius; i++) {
+                int sourceRow = Math.max(0, Math.min(y + i, height - 1)) * width;
+                double weight = kernel[i + radius];
+                for (int x = 0; x < width; x++) {
+                    dst[row + x] += src[sourceRow + x] * weight;
                 }
-                dst[y][x] = sum;
             }
         }
-        return dst;
+    }
+
+    /**
+     * Applies a gaussian blur to a row-major buffer without allocating
+     * 
+     * @param src The input values (values 0..1), row by row
+     * @param dst The buffer for the blurred values, could be the same as {@code src}
+     * @param scratch A buffer for the intermediate values, must not be {@code src} or {@code dst}
+     * @param width The number of values in a row
+     * @param height The number of rows
+     * @param radius How far neighbors influence the value
+     * @param sigma Controls the amount of blurring
+     */
+    public static void blur(double[] src, double[] dst, double[] scratch, int width, int height, int radius, float sigma) {
+        int size = width * height;
+        if (src.length < size || dst.length < size || scratch.length < size) {
+            throw new IllegalArgumentException("buffers must have at least width * height values");
+        }
+        if (scratch == src || scratch == dst) {
+            throw new IllegalArgumentException("scratch must be a separate buffer");
+        }
+
+        double[] kernel = gaussianKernel(radius, sigma);
+        convolveHorizontal(src, scratch, width, height, kernel, radius);
+        convolveVertical(scratch, dst, width, height, kernel, radius);
     }
 
     /**
@@ -65,8 +106,24 @@ public class GaussianBlur {
     public static double[][] blur(double[][] src, int radius, float sigma) {
         int height = src.length;
         int width = src[0].length;
-        double[] kernel = gaussianKernel(radius, sigma);
-        double[][] temp = convolveHorizontal(src, width, height, kernel, radius);
-        return convolveVertical(temp, width, height, kernel, radius);
+        double[] values = flatten(src, width, height);
+        blur(values, values, new double[width * height], width, height, radius, sigma);
+        return unflatten(values, width, height);
+    }
+
+    static double[] flatten(double[][] src, int width, int height) {
+        double[] values = new double[width * height];
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(src[y], 0, values, y * width, width);
+        }
+        return values;
+    }
+
+    static double[][] unflatten(double[] values, int width, int height) {
+        double[][] result = new double[height][width];
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(values, y * width, result[y], 0, width);
+        }
+        return result;
     }
 }
@@ -1,16 +1,25 @@
 package ZombieGame.Algorithms;
 
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 public class PoissonSampling {
     public static int sample(double lambda) {
+        return sample(lambda, ThreadLocalRandom.current());
+    }
+
+    /**
+     * @param lambda The expected value
+     * @param random The generator to draw from, the same sequence of the generator returns the same sample
+     */
+    public static int sample(double lambda, RandomGenerator random) {
         double L = Math.exp(-lambda);
         int k = 0;
         double p = 1.0;
 
         do {
             k++;
-            p *= ThreadLocalRandom.current().nextDouble();
+            p *= random.nextDouble();
         } while (p > L);
 
         return k - 1;
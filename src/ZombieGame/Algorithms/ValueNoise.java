@@ -0,0 +1,81 @@
+package ZombieGame.Algorithms;
+
+/**
+ * Seeded coherent value noise with octaves. The value at a position only depends on the seed and the position,
+ * so any part of the noise could be sampled independently and in any order.
+ */
+public class ValueNoise {
+    private final long seed;
+    private final int octaves;
+    private final double persistence;
+    private final double amplitudeSum;
+
+    /**
+     * @param seed The seed of the noise
+     * @param octaves The number of layers, every layer has the double frequency of the previous one
+     * @param persistence The amplitude of a layer relative to the previous one
+     */
+    public ValueNoise(long seed, int octaves, double persistence) {
+        if (octaves < 1) {
+            throw new IllegalArgumentException("octaves must be at least 1");
+        }
+        this.seed = seed;
+        this.octaves = octaves;
+        this.persistence = persistence;
+
+        double sum = 0;
+        double amplitude = 1;
+        for (int i = 0; i < octaves; i++) {
+            sum += amplitude;
+            amplitude *= persistence;
+        }
+        this.amplitudeSum = sum;
+    }
+
+    /**
+     * @param x The x position, the lattice of the first octave has a spacing of 1
+     * @param y The y position
+     * @return The noise at the position in [0,1]
+     */
+    public double sample(double x, double y) {
+        double value = 0;
+        double amplitude = 1;
+        double frequency = 1;
+        for (int i = 0; i < this.octaves; i++) {
+            value += amplitude * this.lattice(x * frequency, y * frequency, i);
+            amplitude *= this.persistence;
+            frequency *= 2;
+        }
+        return value / this.amplitudeSum;
+    }
+
+    private double lattice(double x, double y, int octave) {
+        int x0 = (int) Math.floor(x);
+        int y0 = (int) Math.floor(y);
+        double tx = fade(x - x0);
+        double ty = fade(y - y0);
+
+        double top = lerp(this.valueAt(x0, y0, octave), this.valueAt(x0 + 1, y0, octave), tx);
+        double bottom = lerp(this.valueAt(x0, y0 + 1, octave), this.valueAt(x0 + 1, y0 + 1, octave), tx);
+        return lerp(top, bottom, ty);
+    }
+
+    // Random value in [0,1) of a lattice point
+    private double valueAt(int x, int y, int octave) {
+        long h = this.seed + octave * 0x9E3779B97F4A7C15L;
+        h ^= ((long) x << 32) | (y & 0xFFFFFFFFL);
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        h ^= h >>> 31;
+        return (h >>> 11) * 0x1.0p-53;
+    }
+
+    // Quintic curve, the noise has no visible edges at the lattice points
+    private static double fade(double t) {
+        return t * t * t * (t * (t * 6 - 15) + 10);
+    }
+
+    private static double lerp(double a, double b, double t) {
+        return a + (b - a) * t;
+    }
+}
@@ -9,11 +9,14 @@ import ZombieGame.Game;
 import ZombieGame.Coordinates.WorldPos;
 import ZombieGame.Entities.Avatar;
 import ZombieGame.Entities.Zombie;
+import ZombieGame.World.EntityHandle;
 
 public class AIMovementComponent extends TargetMovementComponent {
     protected AIState state;
     protected double alphaClear;
     protected double secondsClear;
+    // Cached reference to the avatar the zombie is hunting
+    private EntityHandle<Avatar> avatar;
 
     /**
      * A movement component which provides "intelligent" movement by different states.
@@ -41,7 +44,10 @@ public class AIMovementComponent extends TargetMovementComponent {
         this.lastStepDelta = new WorldPos(0, 0);
         this.movedThisFrame = false;
 
-        Optional<Avatar> opt = Game.world.getEntity(Avatar.class);
+        if (this.avatar == null) {
+            this.avatar = Game.world.getEntityHandle(Avatar.class);
+        }
+        Optional<Avatar> opt = this.avatar.get();
         if (opt.isEmpty()) {
             System.err.println("No avatar found");
             return;
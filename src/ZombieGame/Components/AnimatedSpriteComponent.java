@@ -22,7 +22,7 @@ public class AnimatedSpriteComponent extends SpriteComponent {
 
     @Override
     public void draw() {
-        ViewPos view = this.getEntity().getPositionComponent().getViewPos();
+        ViewPos view = this.getEntity().getPositionComponent().getRenderViewPos();
         this.sprite.draw(view);
     }
 
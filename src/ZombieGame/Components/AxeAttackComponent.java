@@ -103,7 +103,7 @@ public class AxeAttackComponent extends AttackComponent implements DebuggableGeo
 
     @Override
     public void drawDebug() {
-        GraphicSystem.getInstance().drawOval(this.getEntity().getPositionComponent().getViewPos().add(this.offset), (int) (this.attackRange * 2), (int) (this.attackRange * 2), new DrawStyle().color(Color.YELLOW));
-        GraphicSystem.getInstance().drawOval(this.getEntity().getPositionComponent().getViewPos().add(this.offset), (int) (this.minThrowDistance * 2), (int) (this.minThrowDistance * 2), new DrawStyle().color(Color.YELLOW));
+        GraphicSystem.getInstance().drawOval(this.getEntity().getPositionComponent().getRenderViewPos().add(this.offset), (int) (this.attackRange * 2), (int) (this.attackRange * 2), new DrawStyle().color(Color.YELLOW));
+        GraphicSystem.getInstance().drawOval(this.getEntity().getPositionComponent().getRenderViewPos().add(this.offset), (int) (this.minThrowDistance * 2), (int) (this.minThrowDistance * 2), new DrawStyle().color(Color.YELLOW));
     }
 }
@@ -67,9 +67,9 @@ public class ButtonSpriteComponent extends SpriteComponent implements Debuggable
     @Override
     public void draw() {
         if (this.isHovered) {
-            this.buttonActive.draw(this.getEntity().getPositionComponent().getViewPos());
+            this.buttonActive.draw(this.getEntity().getPositionComponent().getRenderViewPos());
         } else {
-            button.draw(this.getEntity().getPositionComponent().getViewPos());
+            button.draw(this.getEntity().getPositionComponent().getRenderViewPos());
         }
     }
 
@@ -31,7 +31,7 @@ public class CharacterSpriteComponent extends SpriteComponent {
 
     @Override
     public void draw() {
-        ViewPos view = this.getEntity().getPositionComponent().getViewPos();
+        ViewPos view = this.getEntity().getPositionComponent().getRenderViewPos();
 
         ArrayList<CharacterPart> partsOrder = new ArrayList<>();
         switch (this.getCharacterDirection()) {
@@ -27,7 +27,7 @@ public class CircleComponent extends VisualComponent {
 
     @Override
     public void draw() {
-        ViewPos view = this.getEntity().getPositionComponent().getViewPos();
+        ViewPos view = this.getEntity().getPositionComponent().getRenderViewPos();
         int d = (int) (this.radius * 2);
 
         GraphicSystem.getInstance().drawFillOval(view, d, d, new DrawStyle().color(this.color));
@@ -1,11 +1,12 @@
 package ZombieGame.Components;
 
-import java.util.UUID;
-
+import ZombieGame.DataStructures.IdAllocator;
 import ZombieGame.Entities.Entity;
 
 public abstract class Component {
-    private final UUID uuid = UUID.randomUUID();
+    private static final IdAllocator IDS = new IdAllocator();
+
+    private final long id = IDS.allocate();
     private final Entity entity;
 
     /**
@@ -26,6 +27,27 @@ public abstract class Component {
         return this.entity;
     }
 
+    /**
+     * @return The id of the component, which is unique among all components
+     */
+    public final long getId() {
+        return this.id;
+    }
+
+    /**
+     * Release the id of the component once it is no longer used, so its index could be reused.
+     */
+    public final void release() {
+        IDS.release(this.id);
+    }
+
+    /**
+     * @return {@code true} if the id of the component was not released yet
+     */
+    public final boolean isIdValid() {
+        return IDS.isValid(this.id);
+    }
+
     @Override
     public boolean equals(Object object) {
         if (object == null || getClass() != object.getClass()) {
@@ -33,11 +55,11 @@ public abstract class Component {
         }
 
         Component component = (Component) object;
-        return this.uuid.equals(component.uuid);
+        return this.id == component.id;
     }
 
     @Override
     public int hashCode() {
-        return uuid.hashCode();
+        return Long.hashCode(this.id);
     }
 }
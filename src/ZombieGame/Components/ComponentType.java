@@ -0,0 +1,50 @@
+package ZombieGame.Components;
+
+import java.util.ArrayList;
+
+/**
+ * Registry of dense integer ids for the classes of components and the types they are queried by, like super classes or capability interfaces.
+ * The ids are given in the order the types are first used and are only valid while the game is running.
+ */
+public final class ComponentType {
+    private static final ArrayList<Class<?>> types = new ArrayList<>();
+    private static final ClassValue<Integer> ids = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            synchronized (types) {
+                types.add(type);
+                return types.size() - 1;
+            }
+        }
+    };
+
+    private ComponentType() {
+    }
+
+    /**
+     * @param type The class of a component or a type components are queried by
+     * @return The id of the type
+     */
+    public static int idOf(Class<?> type) {
+        return ids.get(type);
+    }
+
+    /**
+     * @param id The id of the type
+     * @return The type with the id
+     */
+    public static Class<?> typeOf(int id) {
+        synchronized (types) {
+            return types.get(id);
+        }
+    }
+
+    /**
+     * @return The number of types which got an id
+     */
+    public static int count() {
+        synchronized (types) {
+            return types.size();
+        }
+    }
+}
@@ -22,7 +22,7 @@ public class ImageComponent extends VisualComponent {
 
     @Override
     public void draw() {
-        image.draw(this.getEntity().getPositionComponent().getViewPos());
+        image.draw(this.getEntity().getPositionComponent().getRenderViewPos());
     }
 
     @Override
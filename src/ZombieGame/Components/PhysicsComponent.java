@@ -8,6 +8,7 @@ import ZombieGame.EntityType;
 import ZombieGame.Systems.Debug.DebugCategory;
 import ZombieGame.Systems.Debug.DebugCategoryMask;
 import ZombieGame.Systems.Physic.CircleHitBox;
+import ZombieGame.Systems.Physic.Collision;
 import ZombieGame.Systems.Physic.CollisionResponse;
 import ZombieGame.Systems.Physic.HitBox;
 import ZombieGame.Systems.Physic.PhysicsCollisionLayer;
@@ -19,6 +20,10 @@ public abstract class PhysicsComponent extends Component implements DebuggableGe
     protected HitBox hitBox;
     protected final int layer;
     protected final int mask;
+    // The slot in the physics system, -1 if not registered
+    private int physicsSlot = -1;
+    // The collisions reported to others colliding with this component, cached per collision response
+    private final Collision[] collisions = new Collision[CollisionResponse.values().length];
 
     /**
      * @param entity The entity to which the components belongs to
@@ -33,6 +38,53 @@ public abstract class PhysicsComponent extends Component implements DebuggableGe
         this.mask = mask.bit;
     }
 
+    public HitBox getHitBox() {
+        return this.hitBox;
+    }
+
+    /**
+     * @return The bit of the {@link PhysicsCollisionLayer layer} the component belongs to
+     */
+    public int getLayer() {
+        return this.layer;
+    }
+
+    /**
+     * @return The bits of the layers the component could interact with
+     */
+    public int getMask() {
+        return this.mask;
+    }
+
+    /**
+     * @return The slot of the component in the {@link PhysicsSystem physics system} or -1 if not registered
+     */
+    public int getPhysicsSlot() {
+        return this.physicsSlot;
+    }
+
+    /**
+     * Should only be used by the {@link PhysicsSystem physics system} when registering the component.
+     * 
+     * @param slot The slot of the component in the physics system or -1 if not registered
+     */
+    public void setPhysicsSlot(int slot) {
+        this.physicsSlot = slot;
+    }
+
+    /**
+     * @param response The collision response
+     * @return The collision with the entity of this component which is reported to the other component
+     */
+    public Collision asCollision(CollisionResponse response) {
+        Collision collision = this.collisions[response.ordinal()];
+        if (collision == null) {
+            collision = new Collision(this.getEntity(), response);
+            this.collisions[response.ordinal()] = collision;
+        }
+        return collision;
+    }
+
     /**
      * Checks if the HitBox collides with the HitBox of the other Physics Component.
      * 
@@ -106,6 +158,20 @@ public abstract class PhysicsComponent extends Component implements DebuggableGe
         return CollisionResponse.None;
     }
 
+    /**
+     * @return The minimum corner of the axis aligned box which encloses the hit box in the world
+     */
+    public WorldPos getBoundsMin() {
+        return this.getEntity().getPositionComponent().getWorldPos().add(this.hitBox.getBoundsMin());
+    }
+
+    /**
+     * @return The maximum corner of the axis aligned box which encloses the hit box in the world
+     */
+    public WorldPos getBoundsMax() {
+        return this.getEntity().getPositionComponent().getWorldPos().add(this.hitBox.getBoundsMax());
+    }
+
     /**
      * Draw the hit box in the graphics system if {@link PhysicsComponent}.enableDebug is true.
      */
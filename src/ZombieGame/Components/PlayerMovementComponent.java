@@ -114,7 +114,7 @@ public class PlayerMovementComponent extends MovementComponent implements Debugg
     @Override
     public void drawDebug() {
         DrawStyle style = new DrawStyle().color(new Color(0, 36, 153)).stroke(new BasicStroke(2.0f));
-        ViewPos view = this.getEntity().getPositionComponent().getViewPos();
+        ViewPos view = this.getEntity().getPositionComponent().getRenderViewPos();
         GraphicSystem.getInstance().drawLine(view, alpha, (int) (speed / 2), style);
     }
 }
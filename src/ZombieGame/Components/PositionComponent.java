@@ -17,4 +17,17 @@ public abstract class PositionComponent extends Component {
     public abstract void setWorldPos(WorldPos pos);
 
     public abstract void setViewPos(ViewPos pos);
+
+    /**
+     * @return The position in view/screen coordinates which should be used for drawing
+     */
+    public ViewPos getRenderViewPos() {
+        return this.getViewPos();
+    }
+
+    /**
+     * Remembers the current position as the state of the last simulation step.
+     */
+    public void storePreviousPos() {
+    }
 }
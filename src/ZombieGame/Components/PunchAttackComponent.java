@@ -75,6 +75,6 @@ public class PunchAttackComponent extends AttackComponent implements DebuggableG
 
     @Override
     public void drawDebug() {
-        GraphicSystem.getInstance().drawOval(this.getEntity().getPositionComponent().getViewPos().add(this.offset), (int) (this.attackRange * 2), (int) (this.attackRange * 2), new DrawStyle().color(Color.RED));
+        GraphicSystem.getInstance().drawOval(this.getEntity().getPositionComponent().getRenderViewPos().add(this.offset), (int) (this.attackRange * 2), (int) (this.attackRange * 2), new DrawStyle().color(Color.RED));
     }
 }
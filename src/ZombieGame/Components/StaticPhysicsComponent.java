@@ -54,14 +54,14 @@ public class StaticPhysicsComponent extends PhysicsComponent {
 
         if (this.hitBox instanceof CircleHitBox) {
             int radius = ((CircleHitBox) this.hitBox).getRadius();
-            ViewPos view = this.getEntity().getPositionComponent().getViewPos().add(this.hitBox.getOffset());
+            ViewPos view = this.getEntity().getPositionComponent().getRenderViewPos().add(this.hitBox.getOffset());
             int d = (int) (radius * 2);
 
             GraphicSystem.getInstance().drawOval(view, d, d, style);
         } else if (this.hitBox instanceof RectangleHitBox) {
             int width = ((RectangleHitBox) this.hitBox).getWidth();
             int height = ((RectangleHitBox) this.hitBox).getHeight();
-            ViewPos view = this.getEntity().getPositionComponent().getViewPos().add(this.hitBox.getOffset());
+            ViewPos view = this.getEntity().getPositionComponent().getRenderViewPos().add(this.hitBox.getOffset());
 
             GraphicSystem.getInstance().drawRect(view, width, height, style);
         } else {
@@ -21,7 +21,7 @@ public class StaticSpriteComponent extends SpriteComponent {
 
     @Override
     public void draw() {
-        ViewPos view = this.getEntity().getPositionComponent().getViewPos();
+        ViewPos view = this.getEntity().getPositionComponent().getRenderViewPos();
         this.sprite.draw(view);
     }
 
@@ -88,7 +88,7 @@ public class TargetMovementComponent extends MovementComponent implements Debugg
     @Override
     public void drawDebug() {
         DrawStyle style = new DrawStyle().color(new Color(153, 0, 0)).stroke(new BasicStroke(2.0f));
-        ViewPos view = this.getEntity().getPositionComponent().getViewPos();
+        ViewPos view = this.getEntity().getPositionComponent().getRenderViewPos();
         GraphicSystem.getInstance().drawLine(view, alpha, (int) (speed / 2), style);
     }
 }
@@ -22,7 +22,7 @@ public abstract class TextComponent extends UIComponent {
 
     public void draw() {
         String text = this.toString();
-        var pos = this.getEntity().getPositionComponent().getViewPos();
+        var pos = this.getEntity().getPositionComponent().getRenderViewPos();
 
         GraphicSystem g = GraphicSystem.getInstance();
 
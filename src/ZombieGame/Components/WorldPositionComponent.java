@@ -8,6 +8,7 @@ import ZombieGame.Entities.Entity;
 
 public class WorldPositionComponent extends PositionComponent {
     protected WorldPos pos;
+    private WorldPos previousPos;
 
     /**
      * @param entity The entity to which the components belongs to
@@ -16,6 +17,7 @@ public class WorldPositionComponent extends PositionComponent {
     public WorldPositionComponent(Entity entity, WorldPos pos) {
         super(entity);
         this.pos = pos;
+        this.previousPos = pos;
     }
 
     @Override
@@ -32,6 +34,24 @@ public class WorldPositionComponent extends PositionComponent {
         return this.pos.toViewPos(Game.world);
     }
 
+    /**
+     * @return The position interpolated between the last two simulation steps
+     */
+    public final WorldPos getRenderWorldPos() {
+        double alpha = Game.world.getViewport().getInterpolationAlpha();
+        return this.previousPos.add(this.pos.sub(this.previousPos).mul(alpha));
+    }
+
+    @Override
+    public final ViewPos getRenderViewPos() {
+        return this.getRenderWorldPos().toRenderViewPos(Game.world);
+    }
+
+    @Override
+    public final void storePreviousPos() {
+        this.previousPos = this.pos;
+    }
+
     @Override
     public final void setWorldPos(WorldPos pos) {
         ChunkIndex currentIndex = this.pos.toChunkIndex();
@@ -135,7 +135,7 @@ public record ChunkIndex(int x, int y) implements DebuggableGeometry {
     @Override
     public void drawDebug() {
         World world = Game.world;
-        ViewPos viewPos = this.toWorldPos().toViewPos(world);
+        ViewPos viewPos = this.toWorldPos().toRenderViewPos(world);
 
         DrawStyle style = new DrawStyle();
 
@@ -169,6 +169,17 @@ public record WorldPos(double x, double y) {
         return new ViewPos((int) (this.x - world.getViewport().getWorldPart().x()), (int) (this.y - world.getViewport().getWorldPart().y()));
     }
 
+    /**
+     * Converts this world position to a view/screen position relative to the interpolated viewport. Should only be used for drawing.
+     *
+     * @param world The world containing the current viewport/camera offset.
+     * @return The position in view/screen coordinates.
+     */
+    public ViewPos toRenderViewPos(World world) {
+        WorldPos worldPart = world.getViewport().getRenderWorldPart();
+        return new ViewPos((int) (this.x - worldPart.x()), (int) (this.y - worldPart.y()));
+    }
+
     /**
      * @param chunk The chunk this world position belongs to.
      * @return The local position within the given chunk.
@@ -0,0 +1,84 @@
+package ZombieGame.DataStructures;
+
+import java.util.Arrays;
+
+/**
+ * Allocates cheap sequential ids. An id packs the generation of its index as {@code (generation << 32) | index} into a long.
+ * Released indices are reused with the next generation, so a stale id never equals the id of the object which got the index afterwards.
+ * <p>
+ * The allocator is thread safe.
+ */
+public final class IdAllocator {
+    private int[] generations = new int[64];
+    private int[] freeIndices = new int[16];
+    private int freeCount = 0;
+    private int nextIndex = 0;
+
+    /**
+     * @return A new id which is valid until it is released
+     */
+    public synchronized long allocate() {
+        int index;
+        if (this.freeCount > 0) {
+            index = this.freeIndices[--this.freeCount];
+        } else {
+            index = this.nextIndex++;
+            if (index == this.generations.length) {
+                this.generations = Arrays.copyOf(this.generations, index * 2);
+            }
+        }
+        return id(index, this.generations[index]);
+    }
+
+    /**
+     * Release the id, so its index could be reused. Releasing an id which is not valid has no effect.
+     *
+     * @param id The id to release
+     * @return {@code true} if the id was valid
+     */
+    public synchronized boolean release(long id) {
+        if (!this.isValidUnsynchronized(id)) {
+            return false;
+        }
+
+        int index = indexOf(id);
+        this.generations[index]++;
+        if (this.freeCount == this.freeIndices.length) {
+            this.freeIndices = Arrays.copyOf(this.freeIndices, this.freeCount * 2);
+        }
+        this.freeIndices[this.freeCount++] = index;
+        return true;
+    }
+
+    /**
+     * @param id The id to check
+     * @return {@code true} if the id was allocated and not released yet
+     */
+    public synchronized boolean isValid(long id) {
+        return this.isValidUnsynchronized(id);
+    }
+
+    /**
+     * @return The number of ids which are valid
+     */
+    public synchronized int size() {
+        return this.nextIndex - this.freeCount;
+    }
+
+    public static int indexOf(long id) {
+        return (int) id;
+    }
+
+    public static int generationOf(long id) {
+        return (int) (id >>> 32);
+    }
+
+    private boolean isValidUnsynchronized(long id) {
+        int index = indexOf(id);
+        return index >= 0 && index < this.nextIndex && this.generations[index] == generationOf(id);
+    }
+
+    private static long id(int index, int generation) {
+        return ((long) generation << 32) | (index & 0xFFFFFFFFL);
+    }
+}
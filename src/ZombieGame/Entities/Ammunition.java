@@ -30,7 +30,7 @@ public class Ammunition extends Item {
 
 	@Override
 	public void pickUp(Entity entity) {
-		if(entity.getComponents(PlayerWeaponComponent.class).getFirst().getEntity().getVisualComponent().getCharacterEquipment() == CharacterEquipment.BAT){return;}
+		if(entity.getComponent(PlayerWeaponComponent.class).getEntity().getVisualComponent().getCharacterEquipment() == CharacterEquipment.BAT){return;}
 		super.pickUp(entity);
 		for (PlayerWeaponComponent c : entity.getComponents(PlayerWeaponComponent.class)) {
 			switch(c.getEntity().getVisualComponent().getCharacterEquipment()){
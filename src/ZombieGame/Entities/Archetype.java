@@ -0,0 +1,80 @@
+package ZombieGame.Entities;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+import ZombieGame.Components.ComponentType;
+
+/**
+ * The layout of the components of an entity as the ordered ids of their classes.
+ * All entities which got the same components added in the same order share one archetype, which caches for every queried type at which indices the matching components are stored.
+ * So looking up the components of a type is an index read instead of checking the class of every component.
+ */
+final class Archetype {
+    static final Archetype EMPTY = new Archetype(new int[0]);
+    private static final int[] NO_INDICES = new int[0];
+
+    // The ids of the component classes by the index of the component in the entity
+    private final int[] types;
+    // The archetypes with one more component, by the id of the class of the added component
+    private final HashMap<Integer, Archetype> next;
+    // The indices of the matching components by the id of the queried type, null if not queried yet
+    private volatile int[][] matches;
+
+    private Archetype(int[] types) {
+        this.types = types;
+        this.next = new HashMap<>();
+        this.matches = new int[0][];
+    }
+
+    /**
+     * @param typeId The id of the class of the added component
+     * @return The archetype with the component added at the end
+     */
+    Archetype with(int typeId) {
+        synchronized (this.next) {
+            Archetype archetype = this.next.get(typeId);
+            if (archetype == null) {
+                int[] types = Arrays.copyOf(this.types, this.types.length + 1);
+                types[this.types.length] = typeId;
+                archetype = new Archetype(types);
+                this.next.put(typeId, archetype);
+            }
+            return archetype;
+        }
+    }
+
+    /**
+     * @param queryId The id of the queried type
+     * @return The indices of the components which are an instance of the queried type, in the order they were added
+     */
+    int[] indicesOf(int queryId) {
+        int[][] matches = this.matches;
+        if (queryId < matches.length && matches[queryId] != null) {
+            return matches[queryId];
+        }
+
+        Class<?> query = ComponentType.typeOf(queryId);
+        int count = 0;
+        int[] indices = new int[this.types.length];
+        for (int i = 0; i < this.types.length; i++) {
+            if (query.isAssignableFrom(ComponentType.typeOf(this.types[i]))) {
+                indices[count++] = i;
+            }
+        }
+        indices = count == 0 ? NO_INDICES : Arrays.copyOf(indices, count);
+
+        // Another thread could have added a query in the meantime, it is computed again on the next call
+        matches = Arrays.copyOf(matches, Math.max(matches.length, queryId + 1));
+        matches[queryId] = indices;
+        this.matches = matches;
+        return indices;
+    }
+
+    /**
+     * @return The number of components of the entities with this archetype
+     */
+    int size() {
+        return this.types.length;
+    }
+}
@@ -1,18 +1,23 @@
 package ZombieGame.Entities;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.UUID;
+import java.util.Arrays;
 import java.util.function.Function;
 
 import ZombieGame.EntityType;
 import ZombieGame.Capabilities.Capability;
 import ZombieGame.Components.Component;
+import ZombieGame.Components.ComponentType;
 import ZombieGame.Components.PositionComponent;
+import ZombieGame.DataStructures.IdAllocator;
 
 public abstract class Entity {
-    private final UUID uuid = UUID.randomUUID();
-    private HashMap<Class<? extends Component>, ArrayList<Component>> components = new HashMap<>();
+    private static final IdAllocator IDS = new IdAllocator();
+
+    private final long id = IDS.allocate();
+    // The components in the order they were added, the archetype knows at which indices the components of a type are
+    private Component[] components = new Component[4];
+    private Archetype archetype = Archetype.EMPTY;
     private final PositionComponent positionComponent;
 
     /**
@@ -36,7 +41,12 @@ public abstract class Entity {
      */
     public <T extends Component> T add(T component) {
         if (component != null) {
-            components.computeIfAbsent(component.getClass(), c -> new ArrayList<>()).add(component);
+            int index = this.archetype.size();
+            if (index == this.components.length) {
+                this.components = Arrays.copyOf(this.components, index * 2);
+            }
+            this.components[index] = component;
+            this.archetype = this.archetype.with(ComponentType.idOf(component.getClass()));
         }
         return component;
     }
@@ -49,15 +59,27 @@ public abstract class Entity {
      * @return A List of components which extend the type of component
      */
     public <T extends Component> ArrayList<T> getComponents(Class<T> type) {
-        ArrayList<T> result = new ArrayList<>();
-        for (ArrayList<Component> componentList : components.values()) {
-            for (Component c : componentList) {
-                if (type.isInstance(c)) {
-                    result.add(type.cast(c));
-                }
-            }
-        }
-        return result;
+        return this.collect(type);
+    }
+
+    /**
+     * Get the first component of a type from the entity
+     * 
+     * @param <T> The type of Component which should be returned
+     * @param type The class of Component which should be returned. The Class or inherited classes from it will match
+     * @return The first added component which extends the type of component or {@code null} if there is none
+     */
+    public <T extends Component> T getComponent(Class<T> type) {
+        int[] indices = this.archetype.indicesOf(ComponentType.idOf(type));
+        return indices.length == 0 ? null : type.cast(this.components[indices[0]]);
+    }
+
+    /**
+     * @param type The class of Component or the interface of capability to check. Inherited classes or interfaces will match
+     * @return {@code true} if the entity has at least one component of the type
+     */
+    public boolean hasComponent(Class<?> type) {
+        return this.archetype.indicesOf(ComponentType.idOf(type)).length > 0;
     }
 
     /**
@@ -68,14 +90,14 @@ public abstract class Entity {
      * @return A List of components which implement the capability
      */
     public <T extends Capability> ArrayList<T> getComponentsByCapability(Class<T> type) {
+        return this.collect(type);
+    }
 
-        ArrayList<T> result = new ArrayList<>();
-        for (ArrayList<Component> componentList : components.values()) {
-            for (Component c : componentList) {
-                if (type.isInstance(c)) {
-                    result.add(type.cast(c));
-                }
-            }
+    private <T> ArrayList<T> collect(Class<T> type) {
+        int[] indices = this.archetype.indicesOf(ComponentType.idOf(type));
+        ArrayList<T> result = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            result.add(type.cast(this.components[index]));
         }
         return result;
     }
@@ -91,11 +113,34 @@ public abstract class Entity {
      * @param deltaTime The time since last frame in seconds
      */
     public final void update(double deltaTime) {
-        for (ArrayList<Component> entry : this.components.values()) {
-            for (Component component : entry) {
-                component.update(deltaTime);
-            }
+        // Components are updated in the order they were added
+        for (int i = 0; i < this.archetype.size(); i++) {
+            this.components[i].update(deltaTime);
+        }
+    }
+
+    /**
+     * @return The id of the entity, which is unique among all entities
+     */
+    public final long getId() {
+        return this.id;
+    }
+
+    /**
+     * Release the ids of the entity and its components once the entity was removed from the world, so their indices could be reused.
+     */
+    public final void release() {
+        for (int i = 0; i < this.archetype.size(); i++) {
+            this.components[i].release();
         }
+        IDS.release(this.id);
+    }
+
+    /**
+     * @return {@code true} if the id of the entity was not released yet
+     */
+    public final boolean isIdValid() {
+        return IDS.isValid(this.id);
     }
 
     @Override
@@ -105,11 +150,11 @@ public abstract class Entity {
         }
 
         Entity entity = (Entity) object;
-        return this.uuid.equals(entity.uuid);
+        return this.id == entity.id;
     }
 
     @Override
     public int hashCode() {
-        return uuid.hashCode();
+        return Long.hashCode(this.id);
     }
 }
@@ -69,6 +69,10 @@ public abstract class Equipment extends Item {
         }
     }
 
+    public EquipmentStats getEquipmentStats() {
+        return equipmentStats;
+    }
+
     @Override
     public StaticSpriteComponent getVisualComponent() {
         return (StaticSpriteComponent) super.getVisualComponent();
@@ -2,7 +2,9 @@ package ZombieGame;
 
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import ZombieGame.Components.ImageComponent;
@@ -27,27 +29,53 @@ import ZombieGame.World.ZombieWorld;
 public final class Game {
 	public static World world;
 	// defines maximum frame rate
-	private static final int FRAME_MINIMUM_MILLIS = 5;
+	private static final long FRAME_MINIMUM_NANOS = 5_000_000L;
+	// defines the longest frame which is simulated
+	private static final double FRAME_MAXIMUM_SECONDS = 0.25;
+	// defines the fixed rate of the game logic
+	private static final int SIMULATION_RATE = 60;
+	private static final double SIMULATION_STEP = 1.0 / SIMULATION_RATE;
+	// defines the screen size which is simulated without a window
+	private static final int HEADLESS_SCREEN_WIDTH = 1920;
+	private static final int HEADLESS_SCREEN_HEIGHT = 1080;
+	private static final int HEADLESS_DEFAULT_TICKS = 36_000;
+	// headless runs generate the same world unless another seed is given, so they are comparable
+	private static final long HEADLESS_DEFAULT_SEED = 0;
 	private long lastTick;
+	private double accumulator;
 
 	public Game() {
-		// Setup the window
-		Frame frame = new Frame();
-		frame.addComponentListener(new ComponentAdapter() {
-			@Override
-			public void componentResized(ComponentEvent e) {
-				Viewport.setScreenWidth(frame.getWidth());
-				Viewport.setScreenHeight(frame.getHeight());
-				GraphicSystem.getInstance().onViewportResize();
-			}
-		});
-		frame.displayOnScreen();
+		this(false, ThreadLocalRandom.current().nextLong());
+	}
+
+	/**
+	 * @param headless {@code true} if the game should run without a window
+	 * @param seed The seed the world is generated from
+	 */
+	private Game(boolean headless, long seed) {
+		if (headless) {
+			GraphicSystem.setHeadless(true);
+			Viewport.setScreenWidth(HEADLESS_SCREEN_WIDTH);
+			Viewport.setScreenHeight(HEADLESS_SCREEN_HEIGHT);
+		} else {
+			// Setup the window
+			Frame frame = new Frame();
+			frame.addComponentListener(new ComponentAdapter() {
+				@Override
+				public void componentResized(ComponentEvent e) {
+					Viewport.setScreenWidth(frame.getWidth());
+					Viewport.setScreenHeight(frame.getHeight());
+					GraphicSystem.getInstance().onViewportResize();
+				}
+			});
+			frame.displayOnScreen();
+		}
 
 		// Create a new world
-		Game.world = new ZombieWorld();
+		Game.world = new ZombieWorld(seed);
 		Game.world.adjustWorldPart();
 
-		lastTick = System.currentTimeMillis();
+		lastTick = System.nanoTime();
 	}
 
 	private void startScreen() {
@@ -99,7 +127,7 @@ public final class Game {
 				ui.update(secondsDiff);
 
 				// Remove entity if not alive
-				if (ui.getComponents(LivingComponent.class).stream().anyMatch(c -> c.isLiving() == false)) {
+				if (isDead(ui)) {
 					uiIt.remove();
 					continue;
 				}
@@ -148,17 +176,15 @@ public final class Game {
 		Game.world.addUIElement(exitBtn);
 
 		// Pause the timer
-		Iterator<UIElement> uiIt = Game.world.uiElementIterator();
-		while (uiIt.hasNext()) {
-			UIElement ui = uiIt.next();
-			ui.getComponents(TimerComponent.class).stream().forEach(c -> c.pause());
+		for (UIElement ui : Game.world.getUIElementsWithComponent(TimerComponent.class)) {
+			ui.getComponents(TimerComponent.class).forEach(c -> c.pause());
 		}
 
 		while (!continueGame.get()) {
 			double secondsDiff = calculateDeltaTime();
 
 			// Update all UI Elements
-			uiIt = Game.world.uiElementIterator();
+			Iterator<UIElement> uiIt = Game.world.uiElementIterator();
 			while (uiIt.hasNext()) {
 				UIElement ui = uiIt.next();
 
@@ -166,7 +192,7 @@ public final class Game {
 				ui.update(secondsDiff);
 
 				// Remove entity if not alive
-				if (ui.getComponents(LivingComponent.class).stream().anyMatch(c -> c.isLiving() == false)) {
+				if (isDead(ui)) {
 					uiIt.remove();
 					continue;
 				}
@@ -187,10 +213,8 @@ public final class Game {
 		Game.world.removeUIElement(exitBtn);
 
 		// Resume the timer
-		uiIt = Game.world.uiElementIterator();
-		while (uiIt.hasNext()) {
-			UIElement ui = uiIt.next();
-			ui.getComponents(TimerComponent.class).stream().forEach(c -> c.resume());
+		for (UIElement ui : Game.world.getUIElementsWithComponent(TimerComponent.class)) {
+			ui.getComponents(TimerComponent.class).forEach(c -> c.resume());
 		}
 	}
 
@@ -210,29 +234,22 @@ public final class Game {
 		Game.world.addUIElement(exitBtn);
 
 		// Pause the timer
-		Iterator<UIElement> uiIt = Game.world.uiElementIterator();
-		while (uiIt.hasNext()) {
-			UIElement ui = uiIt.next();
-			ui.getComponents(TimerComponent.class).stream().forEach(c -> c.pause());
+		for (UIElement ui : Game.world.getUIElementsWithComponent(TimerComponent.class)) {
+			ui.getComponents(TimerComponent.class).forEach(c -> c.pause());
 		}
 
 		while (true) {
 			double secondsDiff = calculateDeltaTime();
 
 			// Update the visual components of avatar for death animation
-			Iterator<Entity> entityIt = Game.world.loadedEntityIterator();
-			while (entityIt.hasNext()) {
-				Entity e = entityIt.next();
-				if (e.getType() == EntityType.AVATAR) {
-					for (VisualComponent c : e.getComponents(VisualComponent.class)) {
-						c.update(secondsDiff);
-					}
-					break;
+			Game.world.getEntity(EntityType.AVATAR).ifPresent(e -> {
+				for (VisualComponent c : e.getComponents(VisualComponent.class)) {
+					c.update(secondsDiff);
 				}
-			}
+			});
 
 			// Update all UI Elements
-			uiIt = Game.world.uiElementIterator();
+			Iterator<UIElement> uiIt = Game.world.uiElementIterator();
 			while (uiIt.hasNext()) {
 				UIElement ui = uiIt.next();
 
@@ -240,7 +257,7 @@ public final class Game {
 				ui.update(secondsDiff);
 
 				// Remove entity if not alive
-				if (ui.getComponents(LivingComponent.class).stream().anyMatch(c -> c.isLiving() == false)) {
+				if (isDead(ui)) {
 					uiIt.remove();
 					continue;
 				}
@@ -264,97 +281,205 @@ public final class Game {
 
 			double secondsDiff = calculateDeltaTime();
 
-			// Open Pause menu
-			if (InputSystem.getInstance().isPressed(Action.GAME_PAUSE)) {
-				pauseMenu();
-			}
+			// Simulate in fixed steps, the remaining time is carried over to the next frame
+			this.accumulator += secondsDiff;
+			while (this.accumulator >= SIMULATION_STEP) {
+				// Open Pause menu
+				if (InputSystem.getInstance().isPressed(Action.GAME_PAUSE)) {
+					pauseMenu();
+					// Don't catch up the time spent in the pause menu
+					this.accumulator = 0;
+					break;
+				}
+
+				// Game over
+				if (Game.world.gameOver) {
+					gameOver();
+				}
 
-			// Game over
-			if (Game.world.gameOver) {
-				gameOver();
+				simulate(SIMULATION_STEP);
+				this.accumulator -= SIMULATION_STEP;
 			}
 
-			Game.world.update(secondsDiff);
-			Game.world.adjustWorldPart();
-			Game.world.processGenerationQueue(2);
+			// Render between the last two simulated states
+			Game.world.getViewport().setInterpolationAlpha(this.accumulator / SIMULATION_STEP);
 
-			// Update all Entities
-			Iterator<Entity> entityIt = Game.world.loadedEntityIterator();
-			while (entityIt.hasNext()) {
-				Entity e = entityIt.next();
+			// Draw everything
+			GraphicSystem.getInstance().clear();
+			GraphicSystem.getInstance().draw();
+			GraphicSystem.getInstance().swapBuffers();
+		}
+	}
 
-				// Update entity
-				e.update(secondsDiff);
-			}
+	/**
+	 * Runs the simulation without rendering as fast as possible and reports the achieved tick rate.
+	 * 
+	 * @param ticks The number of fixed simulation steps to run
+	 */
+	private void runHeadless(int ticks) {
+		Game.world.init();
 
-			// Remove all dead Entities
-			entityIt = Game.world.entityIterator();
-			while (entityIt.hasNext()) {
-				Entity e = entityIt.next();
+		int tick = 0;
+		long start = System.nanoTime();
+		while (tick < ticks && !Game.world.gameOver) {
+			simulate(SIMULATION_STEP);
+			tick++;
+		}
+		double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
 
-				// Remove entity if not alive
-				if (e.getComponents(LivingComponent.class).stream().anyMatch(c -> c.isLiving() == false)) {
-					entityIt.remove();
-					continue;
-				}
+		if (Game.world.gameOver) {
+			System.out.println(String.format("Game over after %d ticks", tick));
+		}
+		System.out.println(String.format("Simulated %d ticks (%.1f s game time) in %.2f s", tick, tick * SIMULATION_STEP, seconds));
+		System.out.println(String.format("Ticks per second: %.1f", tick / seconds));
+		System.out.println(String.format("Tick time: %.3f ms", seconds * 1000.0 / Math.max(1, tick)));
+	}
+
+	/**
+	 * Advances the game logic by one fixed simulation step.
+	 * 
+	 * @param deltaTime The duration of the step in seconds
+	 */
+	private void simulate(double deltaTime) {
+		// Keep the state of the last step for interpolation while rendering
+		Game.world.getViewport().storePreviousWorldPart();
+		Iterator<Entity> entityIt = Game.world.loadedEntityIterator();
+		while (entityIt.hasNext()) {
+			entityIt.next().getPositionComponent().storePreviousPos();
+		}
+
+		Game.world.update(deltaTime);
+		Game.world.adjustWorldPart();
+		Game.world.processGenerationQueue(2);
+
+		// Update all Entities
+		entityIt = Game.world.loadedEntityIterator();
+		while (entityIt.hasNext()) {
+			Entity e = entityIt.next();
+
+			// Update entity
+			e.update(deltaTime);
+		}
+
+		// Remove all dead Entities, only entities with a living component could die
+		entityIt = Game.world.entityIterator(LivingComponent.class);
+		while (entityIt.hasNext()) {
+			Entity e = entityIt.next();
+
+			// Remove entity if not alive
+			if (isDead(e)) {
+				entityIt.remove();
+				continue;
 			}
+		}
 
-			// Update changed collisions
-			PhysicsSystem.getInstance().update();
+		// Remove living Entities the avatar left far behind
+		Game.world.despawnDistantEntities(World.DESPAWN_CHECKS_PER_STEP);
 
-			// create new objects if needed
-			Game.world.UpdateEntityGeneration(secondsDiff);
+		// Update changed collisions
+		PhysicsSystem.getInstance().update();
 
-			// Update all UI Elements
-			Iterator<UIElement> uiIt = Game.world.uiElementIterator();
-			while (uiIt.hasNext()) {
-				UIElement ui = uiIt.next();
+		// create new objects if needed
+		Game.world.UpdateEntityGeneration(deltaTime);
 
-				// Update entity
-				ui.update(secondsDiff);
+		// Update all UI Elements
+		Iterator<UIElement> uiIt = Game.world.uiElementIterator();
+		while (uiIt.hasNext()) {
+			UIElement ui = uiIt.next();
 
-				// Remove entity if not alive
-				if (ui.getComponents(LivingComponent.class).stream().anyMatch(c -> c.isLiving() == false)) {
-					uiIt.remove();
-					continue;
-				}
+			// Update entity
+			ui.update(deltaTime);
+
+			// Remove entity if not alive
+			if (isDead(ui)) {
+				uiIt.remove();
+				continue;
 			}
+		}
 
-			DebugSystem.getInstance().update();
+		DebugSystem.getInstance().update();
 
-			// After handled the inputs of components clear the input system
-			InputSystem.getInstance().clear();
+		// After handled the inputs of components clear the input system
+		InputSystem.getInstance().clear();
+	}
 
-			// Draw everything
-			GraphicSystem.getInstance().clear();
-			GraphicSystem.getInstance().draw();
-			GraphicSystem.getInstance().swapBuffers();
+	/**
+	 * @param entity The entity to check
+	 * @return {@code true} if at least one living component of the entity is not living anymore
+	 */
+	private static boolean isDead(Entity entity) {
+		if (!entity.hasComponent(LivingComponent.class)) {
+			return false;
 		}
+		for (LivingComponent c : entity.getComponents(LivingComponent.class)) {
+			if (!c.isLiving()) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	private double calculateDeltaTime() {
 		// calculate elapsed time
-		long currentTick = System.currentTimeMillis();
-		long millisDiff = currentTick - this.lastTick;
+		long currentTick = System.nanoTime();
+		long nanosDiff = currentTick - this.lastTick;
 
-		// don't run faster then MINIMUM_DIFF_SECONDS per frame
-		if (millisDiff < FRAME_MINIMUM_MILLIS) {
+		// don't run faster then FRAME_MINIMUM_NANOS per frame
+		if (nanosDiff < FRAME_MINIMUM_NANOS) {
 			try {
-				Thread.sleep(FRAME_MINIMUM_MILLIS - millisDiff);
+				Thread.sleep((FRAME_MINIMUM_NANOS - nanosDiff) / 1_000_000L, (int) ((FRAME_MINIMUM_NANOS - nanosDiff) % 1_000_000L));
 			} catch (Exception ex) {
 				System.err.println(ex);
 			}
-			currentTick = System.currentTimeMillis();
-			millisDiff = currentTick - this.lastTick;
+			currentTick = System.nanoTime();
+			nanosDiff = currentTick - this.lastTick;
 		}
 
 		this.lastTick = currentTick;
-		return millisDiff / 1000.0;
+		// clamp long frames (e.g. debugger, window drag) to avoid a spiral of death
+		return Math.min(nanosDiff / 1_000_000_000.0, FRAME_MAXIMUM_SECONDS);
 	}
 
 	public static void main(String[] args) {
+		// Usage: --headless [ticks] [--parallel-physics] [--seed <seed>] or [--accelerated-background]
+		if (args.length > 0 && args[0].equals("--headless")) {
+			int ticks = HEADLESS_DEFAULT_TICKS;
+			if (args.length > 1 && !args[1].startsWith("--")) {
+				try {
+					ticks = Integer.parseInt(args[1]);
+				} catch (NumberFormatException e) {
+					System.err.println("Invalid number of ticks: " + args[1]);
+					return;
+				}
+			}
+
+			long seed = HEADLESS_DEFAULT_SEED;
+			int seedArg = Arrays.asList(args).indexOf("--seed");
+			if (seedArg >= 0) {
+				try {
+					seed = Long.parseLong(args[seedArg + 1]);
+				} catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+					System.err.println("Invalid seed: " + (seedArg + 1 < args.length ? args[seedArg + 1] : ""));
+					return;
+				}
+			}
+
+			System.setProperty("java.awt.headless", "true");
+			System.out.println(String.format("Creating world with seed %d...", seed));
+			Game game = new Game(true, seed);
+			if (Arrays.asList(args).contains("--parallel-physics")) {
+				PhysicsSystem.getInstance().setParallelNarrowPhase(true);
+			}
+			System.out.println(String.format("Simulating %d ticks...", ticks));
+			game.runHeadless(ticks);
+			System.exit(0);
+		}
+
 		System.out.println("Creating world...");
 		Game game = new Game();
+		if (Arrays.asList(args).contains("--accelerated-background")) {
+			GraphicSystem.getInstance().setAcceleratedBackground(true);
+		}
 		System.out.println("Loading game...");
 		game.startScreen();
 		System.out.println("Starting game...");
@@ -3,26 +3,29 @@ package ZombieGame.Sprites;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.security.InvalidParameterException;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.imageio.ImageIO;
 
+import ZombieGame.Systems.Graphic.GraphicSystem;
 import ZombieGame.Systems.Graphic.MissingTexture;
 
 public class SpriteManager {
-    private static final HashMap<String, BufferedImage> cache = new HashMap<>();
+    // Sprites are also loaded by the workers generating chunks
+    private static final ConcurrentHashMap<String, BufferedImage> cache = new ConcurrentHashMap<>();
 
     private SpriteManager() {
     }
 
     /**
      * @param path The path to the file which should be used as sprite
-     * @return The buffered image read from the cache if already loaded or load from file.
+     * @return The buffered image read from the cache if already loaded or load from file. Loaded images are converted into the format of the screen.
      */
     public static BufferedImage getSprite(String path) {
         return cache.computeIfAbsent(path, p -> {
             try {
-                File file = new File(path);
+                // Sprite paths are written with windows separators
+                File file = new File(path.replace('\\', File.separatorChar));
                 File parentPath = file.getParentFile();
                 if(parentPath == null) {
                     throw new InvalidParameterException("No parent path");
@@ -32,7 +35,8 @@ public class SpriteManager {
                     throw new InvalidParameterException("Path does not exist");
                 }
 
-                return ImageIO.read(file);
+                // The decoded format would be converted on every draw otherwise
+                return GraphicSystem.toCompatibleImage(ImageIO.read(file));
             } catch (Exception e) {
                 System.err.println("Failed to load file: " + p);
                 System.err.println(e);
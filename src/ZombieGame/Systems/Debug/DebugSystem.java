@@ -15,6 +15,7 @@ import ZombieGame.Systems.Graphic.DrawStyle;
 import ZombieGame.Systems.Graphic.GraphicSystem;
 import ZombieGame.Systems.Input.Action;
 import ZombieGame.Systems.Input.InputSystem;
+import ZombieGame.Systems.Physic.PhysicsSystem;
 
 public class DebugSystem {
     private static final DebugSystem instance = new DebugSystem();
@@ -187,5 +188,9 @@ public class DebugSystem {
             }));
             System.out.println("Toggle DEBUG_UI " + this.enabledCategories.get(DebugCategory.UI));
         }
+        if (InputSystem.getInstance().isPressed(Action.DEBUG_PARALLEL_PHYSICS)) {
+            PhysicsSystem.getInstance().setParallelNarrowPhase(!PhysicsSystem.getInstance().isParallelNarrowPhase());
+            System.out.println("Toggle parallel physics " + PhysicsSystem.getInstance().isParallelNarrowPhase());
+        }
     }
 }
@@ -3,9 +3,15 @@ package ZombieGame.Systems.Graphic;
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.VolatileImage;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.imageio.ImageIO;
 import javax.swing.JPanel;
@@ -23,8 +29,15 @@ import ZombieGame.Systems.Input.InputSystem;
 import ZombieGame.Sprites.SpriteManager;
 
 public class GraphicSystem extends JPanel implements DebuggableText {
-    private static final GraphicSystem instance = new GraphicSystem();
+    private static GraphicSystem instance;
+    private static volatile boolean headless = GraphicsEnvironment.isHeadless();
+    // Looked up once and read without locking, images are checked against it on every draw
+    private static volatile ScreenFormat screenFormat;
+    // Images which had to be converted into a compatible format, e.g. sprites loaded from files
+    private static final AtomicInteger convertedImages = new AtomicInteger();
     private EnumMap<GraphicLayer, ArrayList<Drawable>> drawables;
+    // Without a display the drawables are only recorded, they are never sorted or drawn
+    private final HashSet<Drawable> recordedDrawables = new HashSet<>();
     private long lastTime;
     private long frameTime;
     private long drawTime;
@@ -37,13 +50,22 @@ public class GraphicSystem extends JPanel implements DebuggableText {
     private long drawTimeDebug;
 
     // GraphicsSystem variables
-    private GraphicsConfiguration graphicsConf = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+    private GraphicsConfiguration graphicsConf = headless ? null : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
     private BufferedImage imageBuffer;
     private Graphics2D graphics;
 
+    // Images drawn in the current and last frame and how many of them needed no conversion
+    private int imageDraws = 0;
+    private int fastImageDraws = 0;
+    private int lastImageDraws = 0;
+    private int lastFastImageDraws = 0;
+    // Copies of background images in video memory, only used with a screen
+    private boolean acceleratedBackground = false;
+    private final transient WeakHashMap<BufferedImage, VolatileImage> acceleratedImages = new WeakHashMap<>();
+
     private GraphicSystem() {
         this.setSize(Viewport.getScreenWidth(), Viewport.getScreenHeight());
-        this.imageBuffer = this.graphicsConf.createCompatibleImage(this.getWidth(), this.getHeight());
+        this.imageBuffer = this.createImageBuffer(this.getWidth(), this.getHeight());
         this.graphics = this.imageBuffer.createGraphics();
 
         // initialize Listeners
@@ -72,9 +94,154 @@ public class GraphicSystem extends JPanel implements DebuggableText {
      * @return The instance of the singleton or newly created if first access.
      */
     public static synchronized GraphicSystem getInstance() {
+        if (instance == null) {
+            instance = new GraphicSystem();
+        }
         return instance;
     }
 
+    /**
+     * Run the graphic system without a display. Everything is drawn into an offscreen buffer which is never shown.
+     * Has to be called before the first access of the instance.
+     * 
+     * @param headless {@code true} if no display should be used
+     */
+    public static synchronized void setHeadless(boolean headless) {
+        if (instance != null) {
+            System.err.println("Headless mode has to be set before the graphic system is created");
+            return;
+        }
+        GraphicSystem.headless = headless || GraphicsEnvironment.isHeadless();
+    }
+
+    /**
+     * @return {@code true} if the graphic system runs without a display
+     */
+    public static boolean isHeadless() {
+        return GraphicSystem.headless;
+    }
+
+    /**
+     * The configuration of the screen with its color model for every transparency
+     */
+    private record ScreenFormat(GraphicsConfiguration configuration, ColorModel opaque, ColorModel bitmask, ColorModel translucent) {
+        ColorModel colorModelOf(int transparency) {
+            switch (transparency) {
+                case Transparency.OPAQUE:
+                    return this.opaque;
+                case Transparency.BITMASK:
+                    return this.bitmask;
+                default:
+                    return this.translucent;
+            }
+        }
+    }
+
+    /**
+     * @return The format of the screen or {@code null} if there is no screen
+     */
+    private static ScreenFormat getScreenFormat() {
+        if (headless) {
+            return null;
+        }
+        // Threads racing here look up the same configuration, so the last write wins without harm
+        ScreenFormat format = screenFormat;
+        if (format == null) {
+            GraphicsConfiguration configuration = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+            format = new ScreenFormat(configuration, configuration.getColorModel(Transparency.OPAQUE), configuration.getColorModel(Transparency.BITMASK), configuration.getColorModel(Transparency.TRANSLUCENT));
+            screenFormat = format;
+        }
+        return format;
+    }
+
+    /**
+     * Create an image in the format of the screen, so drawing it needs no conversion. Without a screen the format matches the offscreen buffer.
+     * Could be called from any thread.
+     * 
+     * @param width The width of the image
+     * @param height The height of the image
+     * @param transparency {@link Transparency#OPAQUE}, {@link Transparency#BITMASK} or {@link Transparency#TRANSLUCENT}
+     * @return A new image
+     */
+    public static BufferedImage createCompatibleImage(int width, int height, int transparency) {
+        ScreenFormat format = getScreenFormat();
+        if (format == null) {
+            return new BufferedImage(Math.max(1, width), Math.max(1, height), transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+        return format.configuration().createCompatibleImage(Math.max(1, width), Math.max(1, height), transparency);
+    }
+
+    /**
+     * @param image The image to check
+     * @return {@code true} if the image is in the format {@link #createCompatibleImage(int, int, int)} creates for its transparency
+     */
+    public static boolean isCompatible(BufferedImage image) {
+        ScreenFormat format = getScreenFormat();
+        if (format == null) {
+            int type = image.getType();
+            return type == BufferedImage.TYPE_INT_RGB || type == BufferedImage.TYPE_INT_ARGB_PRE;
+        }
+        // Compatible images share the color model of the configuration, so the comparison is only needed for other images
+        ColorModel model = image.getColorModel();
+        ColorModel expected = format.colorModelOf(image.getTransparency());
+        return model == expected || model.equals(expected);
+    }
+
+    /**
+     * Convert the image into the format of the screen. Could be called from any thread.
+     * 
+     * @param image The image to convert
+     * @return The image if it is already compatible or a compatible copy with the same transparency
+     */
+    public static BufferedImage toCompatibleImage(BufferedImage image) {
+        if (isCompatible(image)) {
+            return image;
+        }
+
+        BufferedImage compatible = createCompatibleImage(image.getWidth(), image.getHeight(), image.getTransparency());
+        Graphics2D g = compatible.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        convertedImages.incrementAndGet();
+        return compatible;
+    }
+
+    /**
+     * Keep copies of the background images in video memory, see {@link #drawBackgroundImage(BufferedImage, ViewPos, int, int)}. Has no effect without a screen.
+     * 
+     * @param accelerated {@code true} to draw the background from video memory
+     */
+    public void setAcceleratedBackground(boolean accelerated) {
+        this.acceleratedBackground = accelerated && !headless;
+        if (!this.acceleratedBackground) {
+            this.acceleratedImages.values().forEach(VolatileImage::flush);
+            this.acceleratedImages.clear();
+        }
+    }
+
+    /**
+     * Release the copy of the background image in video memory. Has to be called before the content of the image is changed.
+     * 
+     * @param image The image which is no longer drawn
+     */
+    public void releaseAcceleratedImage(BufferedImage image) {
+        VolatileImage accelerated = this.acceleratedImages.remove(image);
+        if (accelerated != null) {
+            accelerated.flush();
+        }
+    }
+
+    /**
+     * @return A new image buffer, compatible with the screen if there is one. Without a display nothing is drawn, so the buffer only provides the font metrics.
+     */
+    private BufferedImage createImageBuffer(int width, int height) {
+        if (headless) {
+            return new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+        }
+        return this.graphicsConf.createCompatibleImage(width, height);
+    }
+
     /**
      * Register a drawable for the visualization
      * 
@@ -83,6 +250,10 @@ public class GraphicSystem extends JPanel implements DebuggableText {
      * @return {@code true} if the registration was successful or if it was already registered
      */
     public boolean registerDrawable(Drawable drawable) {
+        if (headless) {
+            this.recordedDrawables.add(drawable);
+            return true;
+        }
         ArrayList<Drawable> list = drawables.computeIfAbsent(drawable.getLayer(), c -> new ArrayList<>());
         if (list.contains(drawable)) {
             return true;
@@ -91,6 +262,29 @@ public class GraphicSystem extends JPanel implements DebuggableText {
         }
     }
 
+    /**
+     * Register several drawables for the visualization at once.
+     * Every touched layer is searched once for already registered drawables instead of once per drawable.
+     * 
+     * @param drawables The drawables to register
+     * @return {@code true} if the registration was successful or if they were already registered
+     */
+    public boolean registerDrawables(Collection<? extends Drawable> drawables) {
+        if (headless) {
+            this.recordedDrawables.addAll(drawables);
+            return true;
+        }
+        EnumMap<GraphicLayer, HashSet<Drawable>> registered = new EnumMap<>(GraphicLayer.class);
+        for (Drawable drawable : drawables) {
+            ArrayList<Drawable> list = this.drawables.computeIfAbsent(drawable.getLayer(), c -> new ArrayList<>());
+            HashSet<Drawable> set = registered.computeIfAbsent(drawable.getLayer(), l -> new HashSet<>(list));
+            if (set.add(drawable)) {
+                list.add(drawable);
+            }
+        }
+        return true;
+    }
+
     public java.awt.FontMetrics getFontMetrics(java.awt.Font font) {
         return this.graphics.getFontMetrics(font);
     }
@@ -116,6 +310,9 @@ public class GraphicSystem extends JPanel implements DebuggableText {
      * @return {@code true} if unregistering was successful, {@code false} if not successful or not contained
      */
     public boolean unregisterDrawable(Drawable drawable) {
+        if (headless) {
+            return this.recordedDrawables.remove(drawable);
+        }
         ArrayList<Drawable> list = drawables.get(drawable.getLayer());
         if (list != null) {
             return list.remove(drawable);
@@ -144,6 +341,14 @@ public class GraphicSystem extends JPanel implements DebuggableText {
      * Draw the entities on the Screen
      */
     public void draw() {
+        this.lastImageDraws = this.imageDraws;
+        this.lastFastImageDraws = this.fastImageDraws;
+        this.imageDraws = 0;
+        this.fastImageDraws = 0;
+        if (headless) {
+            return;
+        }
+
         long start = System.nanoTime();
         drawables.getOrDefault(GraphicLayer.BACKGROUND, new ArrayList<>()).forEach(entity -> entity.draw());
         long endBackground = System.nanoTime();
@@ -305,7 +510,7 @@ public class GraphicSystem extends JPanel implements DebuggableText {
         }
 
         if (tint != null) {
-            BufferedImage temp = new BufferedImage(drawWidth, drawHeight, BufferedImage.TYPE_INT_ARGB);
+            BufferedImage temp = createCompatibleImage(drawWidth, drawHeight, Transparency.TRANSLUCENT);
             Graphics2D tempGraphics = temp.createGraphics();
 
             tempGraphics.drawImage(sprite, 0, 0, drawWidth, drawHeight, (columnIndex * spriteWidth), (rowIndex * spriteHeight), ((columnIndex + 1) * spriteWidth), ((rowIndex + 1) * spriteHeight), null);
@@ -317,6 +522,7 @@ public class GraphicSystem extends JPanel implements DebuggableText {
 
             this.graphics.drawImage(temp, drawPos.x(), drawPos.y(), null);
         } else {
+            this.countImageDraw(sprite);
             this.graphics.drawImage(sprite, drawPos.x(), drawPos.y(), drawPos.x() + drawWidth, drawPos.y() + drawHeight, (columnIndex * spriteWidth), (rowIndex * spriteHeight), ((columnIndex + 1) * spriteWidth), ((rowIndex + 1) * spriteHeight), null);
         }
 
@@ -373,9 +579,54 @@ public class GraphicSystem extends JPanel implements DebuggableText {
     }
 
     public void drawImage(BufferedImage image, ViewPos pos, int width, int height) {
+        this.countImageDraw(image);
         this.graphics.drawImage(image, pos.x(), pos.y(), width, height, null);
     }
 
+    /**
+     * Draw an image which rarely changes, e.g. a baked chunk. With an accelerated background the image is drawn from a copy in video memory.
+     * 
+     * @param image The image to draw
+     * @param pos The position of the top left corner
+     * @param width The width to draw the image with
+     * @param height The height to draw the image with
+     */
+    public void drawBackgroundImage(BufferedImage image, ViewPos pos, int width, int height) {
+        if (!this.acceleratedBackground) {
+            this.drawImage(image, pos, width, height);
+            return;
+        }
+
+        VolatileImage accelerated = this.acceleratedImages.get(image);
+        int state = accelerated != null ? accelerated.validate(this.graphicsConf) : VolatileImage.IMAGE_INCOMPATIBLE;
+        if (state == VolatileImage.IMAGE_INCOMPATIBLE) {
+            if (accelerated != null) {
+                accelerated.flush();
+            }
+            accelerated = this.graphicsConf.createCompatibleVolatileImage(image.getWidth(), image.getHeight(), image.getTransparency());
+            this.acceleratedImages.put(image, accelerated);
+            state = VolatileImage.IMAGE_RESTORED;
+        }
+        if (state == VolatileImage.IMAGE_RESTORED) {
+            // Video memory was lost or never written, copy the image again
+            Graphics2D g = accelerated.createGraphics();
+            g.setComposite(AlphaComposite.Src);
+            g.drawImage(image, 0, 0, null);
+            g.dispose();
+        }
+
+        this.imageDraws++;
+        this.fastImageDraws++;
+        this.graphics.drawImage(accelerated, pos.x(), pos.y(), width, height, null);
+    }
+
+    private void countImageDraw(BufferedImage image) {
+        this.imageDraws++;
+        if (isCompatible(image)) {
+            this.fastImageDraws++;
+        }
+    }
+
     /**
      * Draw the objects to screen
      */
@@ -384,6 +635,9 @@ public class GraphicSystem extends JPanel implements DebuggableText {
         this.frameTime = currentTime - lastTime;
         this.lastTime = currentTime;
 
+        if (headless) {
+            return;
+        }
         this.getGraphics().drawImage(this.imageBuffer, 0, 0, this);
     }
 
@@ -438,17 +692,24 @@ public class GraphicSystem extends JPanel implements DebuggableText {
         elements.add(String.format("    Sort: %.2f ms", this.sortTimeEffects / 1_000_000.0));
         elements.add(String.format("  Ui: %.2f ms", this.drawTimeUi / 1_000_000.0));
         elements.add(String.format("  Debug: %.2f ms", this.drawTimeDebug / 1_000_000.0));
+        elements.add(String.format("Images fast path: %d of %d draws, %d converted", this.lastFastImageDraws, this.lastImageDraws, convertedImages.get()));
+        if (this.acceleratedBackground) {
+            elements.add(String.format("  Accelerated background: %d images", this.acceleratedImages.size()));
+        }
         elements.add(String.format("Draw calls: %d", backgroundSize + gameSize + effectsSize + uiSize));
         elements.add(String.format("  Background: %d", backgroundSize));
         elements.add(String.format("  Game: %d", gameSize));
         elements.add(String.format("  Effects: %d", effectsSize));
         elements.add(String.format("  UI: %d", uiSize));
+        if (headless) {
+            elements.add(String.format("Recorded drawables: %d", this.recordedDrawables.size()));
+        }
         return elements;
     }
 
     public void onViewportResize() {
         this.setSize(Viewport.getScreenWidth(), Viewport.getScreenHeight());
-        this.imageBuffer = this.graphicsConf.createCompatibleImage(this.getWidth(), this.getHeight());
+        this.imageBuffer = this.createImageBuffer(this.getWidth(), this.getHeight());
         this.graphics = this.imageBuffer.createGraphics();
     }
 }
@@ -60,7 +60,11 @@ public enum Action {
     /**
      * Show debug ui info
      */
-    DEBUG_UI(null);
+    DEBUG_UI(null),
+    /**
+     * Toggle the parallel collision checks
+     */
+    DEBUG_PARALLEL_PHYSICS(null);
 
     private final String label;
 
@@ -27,4 +27,14 @@ public class CircleHitBox extends HitBox {
     public int getRadius() {
         return this.radius;
     }
+
+    @Override
+    public Offset getBoundsMin() {
+        return this.getOffset().sub(this.radius, this.radius);
+    }
+
+    @Override
+    public Offset getBoundsMax() {
+        return this.getOffset().add(this.radius, this.radius);
+    }
 }
@@ -0,0 +1,366 @@
+package ZombieGame.Systems.Physic;
+
+import java.util.Arrays;
+
+import ZombieGame.Components.PhysicsComponent;
+import ZombieGame.Coordinates.WorldPos;
+import ZombieGame.Entities.Entity;
+
+/**
+ * The colliders of the registered {@link PhysicsComponent physics components} stored as primitive arrays indexed by the slot of the component.
+ * The arrays are synced from the position of the entities once per physics step, so the collision checks of the narrow phase run without reading the components and without allocating.
+ * The checks give the same result as {@link PhysicsComponent#checkCollision(PhysicsComponent)}.
+ * Fast components on the {@link PhysicsCollisionLayer#PROJECTILE projectile layer} are swept from their previous to their current position, so they can not skip through thin colliders.
+ */
+final class ColliderStore {
+    static final byte CIRCLE = 0;
+    static final byte RECTANGLE = 1;
+    static final double NO_IMPACT = -1;
+
+    // Center of circles, position of rectangles
+    private double[] x;
+    private double[] y;
+    // Position of the previous physics step
+    private double[] previousX;
+    private double[] previousY;
+    private boolean[] swept;
+    // Radius of circles, width of rectangles
+    private double[] sizeX;
+    // Radius of circles, height of rectangles
+    private double[] sizeY;
+    // Half of the size of rectangles as used by the rectangle against circle check
+    private double[] halfX;
+    private double[] halfY;
+    private double[] offsetX;
+    private double[] offsetY;
+    private byte[] shapes;
+    private boolean[] blocking;
+    private int[] layers;
+    private int[] masks;
+    private Entity[] entities;
+
+    /**
+     * @param capacity The initial number of slots
+     */
+    ColliderStore(int capacity) {
+        this.x = new double[capacity];
+        this.y = new double[capacity];
+        this.previousX = new double[capacity];
+        this.previousY = new double[capacity];
+        this.swept = new boolean[capacity];
+        this.sizeX = new double[capacity];
+        this.sizeY = new double[capacity];
+        this.halfX = new double[capacity];
+        this.halfY = new double[capacity];
+        this.offsetX = new double[capacity];
+        this.offsetY = new double[capacity];
+        this.shapes = new byte[capacity];
+        this.blocking = new boolean[capacity];
+        this.layers = new int[capacity];
+        this.masks = new int[capacity];
+        this.entities = new Entity[capacity];
+    }
+
+    /**
+     * Grow the arrays if the slot does not fit.
+     *
+     * @param slot The largest slot which has to fit
+     */
+    void ensureCapacity(int slot) {
+        if (slot < this.x.length) {
+            return;
+        }
+
+        int capacity = Math.max(slot + 1, this.x.length * 2);
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.previousX = Arrays.copyOf(this.previousX, capacity);
+        this.previousY = Arrays.copyOf(this.previousY, capacity);
+        this.swept = Arrays.copyOf(this.swept, capacity);
+        this.sizeX = Arrays.copyOf(this.sizeX, capacity);
+        this.sizeY = Arrays.copyOf(this.sizeY, capacity);
+        this.halfX = Arrays.copyOf(this.halfX, capacity);
+        this.halfY = Arrays.copyOf(this.halfY, capacity);
+        this.offsetX = Arrays.copyOf(this.offsetX, capacity);
+        this.offsetY = Arrays.copyOf(this.offsetY, capacity);
+        this.shapes = Arrays.copyOf(this.shapes, capacity);
+        this.blocking = Arrays.copyOf(this.blocking, capacity);
+        this.layers = Arrays.copyOf(this.layers, capacity);
+        this.masks = Arrays.copyOf(this.masks, capacity);
+        this.entities = Arrays.copyOf(this.entities, capacity);
+    }
+
+    /**
+     * Store the shape and the current position of the component in its slot.
+     *
+     * @param component The registered component
+     */
+    void set(PhysicsComponent component) {
+        int slot = component.getPhysicsSlot();
+        this.ensureCapacity(slot);
+
+        HitBox hitBox = component.getHitBox();
+        if (hitBox instanceof CircleHitBox circle) {
+            this.shapes[slot] = CIRCLE;
+            this.sizeX[slot] = circle.getRadius();
+            this.sizeY[slot] = circle.getRadius();
+            this.halfX[slot] = 0;
+            this.halfY[slot] = 0;
+        } else if (hitBox instanceof RectangleHitBox rectangle) {
+            this.shapes[slot] = RECTANGLE;
+            this.sizeX[slot] = rectangle.getWidth();
+            this.sizeY[slot] = rectangle.getHeight();
+            // Integer division like the checks of the component
+            this.halfX[slot] = rectangle.getWidth() / 2;
+            this.halfY[slot] = rectangle.getHeight() / 2;
+        } else {
+            System.err.println("Tried to store invalid hit box in collider store!");
+        }
+        this.offsetX[slot] = hitBox.getOffset().x();
+        this.offsetY[slot] = hitBox.getOffset().y();
+        this.blocking[slot] = hitBox.getCollisionType() == HitBoxType.Block;
+        this.layers[slot] = component.getLayer();
+        this.masks[slot] = component.getMask();
+        this.entities[slot] = component.getEntity();
+
+        // A new component did not move yet
+        WorldPos pos = component.getEntity().getPositionComponent().getWorldPos();
+        this.x[slot] = pos.x() + this.offsetX[slot];
+        this.y[slot] = pos.y() + this.offsetY[slot];
+        this.previousX[slot] = this.x[slot];
+        this.previousY[slot] = this.y[slot];
+        this.swept[slot] = false;
+    }
+
+    /**
+     * Update the position of the component in its slot, the last position is kept as previous position.
+     * Projectiles which moved further than their own size since the last sync are swept.
+     *
+     * @param component The registered component
+     */
+    void sync(PhysicsComponent component) {
+        int slot = component.getPhysicsSlot();
+        WorldPos pos = component.getEntity().getPositionComponent().getWorldPos();
+        this.previousX[slot] = this.x[slot];
+        this.previousY[slot] = this.y[slot];
+        this.x[slot] = pos.x() + this.offsetX[slot];
+        this.y[slot] = pos.y() + this.offsetY[slot];
+
+        if (this.layers[slot] == PhysicsCollisionLayer.PROJECTILE.bit) {
+            double dx = this.x[slot] - this.previousX[slot];
+            double dy = this.y[slot] - this.previousY[slot];
+            double size = this.shapes[slot] == CIRCLE ? this.sizeX[slot] : Math.min(this.sizeX[slot], this.sizeY[slot]) / 2;
+            this.swept[slot] = dx * dx + dy * dy > size * size;
+        } else {
+            this.swept[slot] = false;
+        }
+    }
+
+    /**
+     * @return {@code true} if the component in the slot is checked along its movement of the last step
+     */
+    boolean isSwept(int slot) {
+        return this.swept[slot];
+    }
+
+    /**
+     * Release the references of the slot.
+     *
+     * @param slot The slot of the unregistered component
+     */
+    void clear(int slot) {
+        this.entities[slot] = null;
+    }
+
+    // The bounds of swept components enclose the previous and the current position
+
+    double getMinX(int slot) {
+        double min = this.shapes[slot] == CIRCLE ? this.x[slot] - this.sizeX[slot] : this.x[slot] - this.halfX[slot];
+        return this.swept[slot] ? min - Math.max(0, this.x[slot] - this.previousX[slot]) : min;
+    }
+
+    double getMinY(int slot) {
+        double min = this.shapes[slot] == CIRCLE ? this.y[slot] - this.sizeY[slot] : this.y[slot] - this.halfY[slot];
+        return this.swept[slot] ? min - Math.max(0, this.y[slot] - this.previousY[slot]) : min;
+    }
+
+    double getMaxX(int slot) {
+        double max = this.x[slot] + this.sizeX[slot];
+        return this.swept[slot] ? max + Math.max(0, this.previousX[slot] - this.x[slot]) : max;
+    }
+
+    double getMaxY(int slot) {
+        double max = this.y[slot] + this.sizeY[slot];
+        return this.swept[slot] ? max + Math.max(0, this.previousY[slot] - this.y[slot]) : max;
+    }
+
+    /**
+     * @param a The slot of the first component
+     * @param b The slot of the second component
+     * @return The response if the colliders of both slots collide
+     */
+    CollisionResponse responseOf(int a, int b) {
+        return this.blocking[a] && this.blocking[b] ? CollisionResponse.Block : CollisionResponse.Overlap;
+    }
+
+    /**
+     * Find when the colliders of both slots collide during the last step.
+     * If none of them is swept only the current positions are checked, which counts as impact at the end of the step.
+     *
+     * @param a The slot of the first component
+     * @param b The slot of the second component
+     * @return The earliest time of impact from 0 at the previous to 1 at the current position or {@link #NO_IMPACT}
+     */
+    double timeOfImpact(int a, int b) {
+        if (a == b || this.entities[a] == this.entities[b]) {
+            // No collision with it self or between components of same entity
+            return NO_IMPACT;
+        }
+
+        if ((this.layers[a] & this.masks[b]) == 0 && (this.layers[b] & this.masks[a]) == 0) {
+            // Components can not collide
+            return NO_IMPACT;
+        }
+
+        if (this.swept[a] || this.swept[b]) {
+            return this.sweep(a, b);
+        }
+
+        boolean collides;
+        if (this.shapes[a] == CIRCLE) {
+            collides = this.shapes[b] == CIRCLE ? this.circleCircle(a, b) : this.rectangleCircle(b, a);
+        } else {
+            collides = this.shapes[b] == CIRCLE ? this.rectangleCircle(a, b) : this.rectangleRectangle(a, b);
+        }
+
+        return collides ? 1 : NO_IMPACT;
+    }
+
+    /**
+     * Sweep the movement of a relative to b against the area in which the colliders overlap.
+     */
+    private double sweep(int a, int b) {
+        // Relative movement starting at the previous positions
+        double px = this.previousX[a] - this.previousX[b];
+        double py = this.previousY[a] - this.previousY[b];
+        double dx = (this.x[a] - this.previousX[a]) - (this.x[b] - this.previousX[b]);
+        double dy = (this.y[a] - this.previousY[a]) - (this.y[b] - this.previousY[b]);
+
+        if (this.shapes[a] == CIRCLE) {
+            if (this.shapes[b] == CIRCLE) {
+                return sweepRoundedBox(px, py, dx, dy, 0, 0, this.sizeX[a] + this.sizeX[b]);
+            }
+            return sweepRoundedBox(px, py, dx, dy, this.halfX[b], this.halfY[b], this.sizeX[a]);
+        }
+        if (this.shapes[b] == CIRCLE) {
+            // The area is symmetric, so the centered rectangle a can be swept like a circle against b
+            return sweepRoundedBox(px, py, dx, dy, this.halfX[a], this.halfY[a], this.sizeX[b]);
+        }
+        // Rectangles are placed at their top-left corner against each other
+        return sweepBox(px, py, dx, dy, -this.sizeX[a], -this.sizeY[a], this.sizeX[b], this.sizeY[b]);
+    }
+
+    /**
+     * Sweep a point against a box around the origin whose corners are rounded with the radius.
+     * The rounded box is the union of two crossing boxes and a circle at each corner.
+     */
+    private static double sweepRoundedBox(double px, double py, double dx, double dy, double halfX, double halfY, double radius) {
+        double t = earliest(sweepBox(px, py, dx, dy, -halfX - radius, -halfY, halfX + radius, halfY), sweepBox(px, py, dx, dy, -halfX, -halfY - radius, halfX, halfY + radius));
+        t = earliest(t, sweepCircle(px, py, dx, dy, -halfX, -halfY, radius));
+        t = earliest(t, sweepCircle(px, py, dx, dy, halfX, -halfY, radius));
+        t = earliest(t, sweepCircle(px, py, dx, dy, -halfX, halfY, radius));
+        return earliest(t, sweepCircle(px, py, dx, dy, halfX, halfY, radius));
+    }
+
+    /**
+     * @return The time the segment from p to p + d enters the box or {@link #NO_IMPACT}
+     */
+    private static double sweepBox(double px, double py, double dx, double dy, double minX, double minY, double maxX, double maxY) {
+        double enter = 0;
+        double exit = 1;
+
+        // Slab test for both axes
+        if (dx == 0) {
+            if (px < minX || px > maxX) {
+                return NO_IMPACT;
+            }
+        } else {
+            double t1 = (minX - px) / dx;
+            double t2 = (maxX - px) / dx;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+        if (dy == 0) {
+            if (py < minY || py > maxY) {
+                return NO_IMPACT;
+            }
+        } else {
+            double t1 = (minY - py) / dy;
+            double t2 = (maxY - py) / dy;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+
+        return enter <= exit ? enter : NO_IMPACT;
+    }
+
+    /**
+     * @return The time the segment from p to p + d enters the circle or {@link #NO_IMPACT}
+     */
+    private static double sweepCircle(double px, double py, double dx, double dy, double cx, double cy, double radius) {
+        double mx = px - cx;
+        double my = py - cy;
+        double c = mx * mx + my * my - radius * radius;
+        if (c <= 0) {
+            // Starts inside
+            return 0;
+        }
+
+        double a = dx * dx + dy * dy;
+        double b = mx * dx + my * dy;
+        if (a == 0 || b >= 0) {
+            // Not moving or moving away
+            return NO_IMPACT;
+        }
+
+        double discriminant = b * b - a * c;
+        if (discriminant < 0) {
+            return NO_IMPACT;
+        }
+
+        double t = (-b - Math.sqrt(discriminant)) / a;
+        return t <= 1 ? t : NO_IMPACT;
+    }
+
+    private static double earliest(double t1, double t2) {
+        if (t1 == NO_IMPACT) {
+            return t2;
+        }
+        if (t2 == NO_IMPACT) {
+            return t1;
+        }
+        return Math.min(t1, t2);
+    }
+
+    private boolean circleCircle(int a, int b) {
+        double dist = this.sizeX[a] + this.sizeX[b];
+        double dx = this.x[a] - this.x[b];
+        double dy = this.y[a] - this.y[b];
+        return dx * dx + dy * dy < dist * dist;
+    }
+
+    private boolean rectangleRectangle(int a, int b) {
+        return this.x[a] < this.x[b] + this.sizeX[b] && this.x[a] + this.sizeX[a] > this.x[b] &&
+                this.y[a] < this.y[b] + this.sizeY[b] && this.y[a] + this.sizeY[a] > this.y[b];
+    }
+
+    private boolean rectangleCircle(int rectangle, int circle) {
+        // The rectangle is centered on its position against circles
+        double closestX = Math.max(this.x[rectangle] - this.halfX[rectangle], Math.min(this.x[circle], this.x[rectangle] + this.halfX[rectangle]));
+        double closestY = Math.max(this.y[rectangle] - this.halfY[rectangle], Math.min(this.y[circle], this.y[rectangle] + this.halfY[rectangle]));
+        double dx = this.x[circle] - closestX;
+        double dy = this.y[circle] - closestY;
+        double r = this.sizeX[circle];
+        return dx * dx + dy * dy <= r * r;
+    }
+}
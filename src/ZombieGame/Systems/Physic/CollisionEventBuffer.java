@@ -0,0 +1,79 @@
+package ZombieGame.Systems.Physic;
+
+import java.util.Arrays;
+
+import ZombieGame.Components.DynamicPhysicsComponent;
+import ZombieGame.Components.PhysicsComponent;
+
+/**
+ * Reusable buffer of the collision events of a physics step which are dispatched after all collisions are known.
+ */
+final class CollisionEventBuffer {
+    private DynamicPhysicsComponent[] components;
+    private PhysicsComponent[] others;
+    private CollisionResponse[] responses;
+    private EventType[] types;
+    private int size;
+
+    /**
+     * @param capacity The initial number of events which fit without growing
+     */
+    CollisionEventBuffer(int capacity) {
+        this.components = new DynamicPhysicsComponent[capacity];
+        this.others = new PhysicsComponent[capacity];
+        this.responses = new CollisionResponse[capacity];
+        this.types = new EventType[capacity];
+        this.size = 0;
+    }
+
+    /**
+     * @param component The component which receives the event
+     * @param other The component it collides with
+     * @param response The collision response of the pair
+     * @param type The type of the event
+     */
+    void add(DynamicPhysicsComponent component, PhysicsComponent other, CollisionResponse response, EventType type) {
+        if (this.size == this.components.length) {
+            int capacity = Math.max(16, this.size * 2);
+            this.components = Arrays.copyOf(this.components, capacity);
+            this.others = Arrays.copyOf(this.others, capacity);
+            this.responses = Arrays.copyOf(this.responses, capacity);
+            this.types = Arrays.copyOf(this.types, capacity);
+        }
+
+        this.components[this.size] = component;
+        this.others[this.size] = other;
+        this.responses[this.size] = response;
+        this.types[this.size] = type;
+        this.size++;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    DynamicPhysicsComponent componentAt(int index) {
+        return this.components[index];
+    }
+
+    PhysicsComponent otherAt(int index) {
+        return this.others[index];
+    }
+
+    CollisionResponse responseAt(int index) {
+        return this.responses[index];
+    }
+
+    EventType typeAt(int index) {
+        return this.types[index];
+    }
+
+    /**
+     * Remove all events and release the references to the components.
+     */
+    void clear() {
+        Arrays.fill(this.components, 0, this.size, null);
+        Arrays.fill(this.others, 0, this.size, null);
+        this.size = 0;
+    }
+}
@@ -0,0 +1,89 @@
+package ZombieGame.Systems.Physic;
+
+import ZombieGame.Components.PhysicsComponent;
+
+/**
+ * Table of the {@link PhysicsCollisionLayer layers} which could interact with each other.
+ * Two layers are compatible if a component of one layer has the other layer in its mask, the table is built from the masks of the registered components.
+ * Layers which are not compatible are never checked against each other.
+ */
+final class CollisionLayerTable {
+    static final int LAYER_COUNT = PhysicsCollisionLayer.values().length;
+
+    // The union of the masks of all components registered with the layer
+    private final int[] masks;
+    // Bits of the compatible layers of each layer
+    private final int[] compatible;
+
+    CollisionLayerTable() {
+        this.masks = new int[LAYER_COUNT];
+        this.compatible = new int[LAYER_COUNT];
+    }
+
+    /**
+     * @param layer The bit of the layer
+     * @return The index of the layer, which is the position of its bit
+     */
+    static int indexOf(int layer) {
+        return Integer.numberOfTrailingZeros(layer);
+    }
+
+    /**
+     * Add the mask of the component to its layer. The table is only rebuilt if the mask adds new layers, masks are never removed again.
+     *
+     * @param component The component which gets registered
+     */
+    void add(PhysicsComponent component) {
+        int index = indexOf(component.getLayer());
+        int mask = this.masks[index] | component.getMask();
+        if (mask == this.masks[index]) {
+            return;
+        }
+
+        this.masks[index] = mask;
+        for (int i = 0; i < LAYER_COUNT; i++) {
+            this.compatible[i] = 0;
+            for (int j = 0; j < LAYER_COUNT; j++) {
+                if ((this.masks[i] & (1 << j)) != 0 || (this.masks[j] & (1 << i)) != 0) {
+                    this.compatible[i] |= 1 << j;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param index The index of the layer
+     * @return The bits of the layers the components of the layer could interact with
+     */
+    int getCompatibleLayers(int index) {
+        return this.compatible[index];
+    }
+
+    /**
+     * Get the layers a single component could interact with, the component does not have to be registered.
+     *
+     * @param component The component to check
+     * @return The bits of the layers the component could interact with
+     */
+    int getCompatibleLayers(PhysicsComponent component) {
+        int layers = 0;
+        for (int i = 0; i < LAYER_COUNT; i++) {
+            if ((component.getMask() & (1 << i)) != 0 || (this.masks[i] & component.getLayer()) != 0) {
+                layers |= 1 << i;
+            }
+        }
+        return layers;
+    }
+
+    /**
+     * @return The number of layer pairs which are checked against each other
+     */
+    int getPairCount() {
+        int count = 0;
+        for (int i = 0; i < LAYER_COUNT; i++) {
+            // Only count each pair once
+            count += Integer.bitCount(this.compatible[i] >>> i);
+        }
+        return count;
+    }
+}
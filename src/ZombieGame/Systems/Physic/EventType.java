@@ -0,0 +1,5 @@
+package ZombieGame.Systems.Physic;
+
+enum EventType {
+    ENTER, STAY, EXIT
+}
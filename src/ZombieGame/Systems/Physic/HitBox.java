@@ -30,4 +30,14 @@ public abstract class HitBox {
     public Offset getOffset() {
         return this.offset;
     }
+
+    /**
+     * @return The offset from the entity position to the minimum corner of the axis aligned box which encloses the hit box
+     */
+    public abstract Offset getBoundsMin();
+
+    /**
+     * @return The offset from the entity position to the maximum corner of the axis aligned box which encloses the hit box
+     */
+    public abstract Offset getBoundsMax();
 }
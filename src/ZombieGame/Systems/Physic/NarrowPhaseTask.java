@@ -0,0 +1,161 @@
+package ZombieGame.Systems.Physic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.RecursiveAction;
+
+import ZombieGame.Components.DynamicPhysicsComponent;
+import ZombieGame.Components.PhysicsComponent;
+
+/**
+ * Checks the collisions of a range of dynamic components against their broadphase candidates.
+ * Only the layers which are compatible with the layer of a component are searched for candidates.
+ * The task only reads the components and the spatial indices, the found collisions are kept in its own buffer, so several tasks can run in parallel.
+ * The task is reused every physics step.
+ */
+final class NarrowPhaseTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final ArrayList<DynamicPhysicsComponent> components;
+    private final transient SpatialHashGrid[] broadphase;
+    private final transient StaticColliderIndex staticIndex;
+    private final transient CollisionLayerTable layers;
+    private final transient ColliderStore colliders;
+    private final ArrayList<PhysicsComponent> candidates;
+    private int from;
+    private int to;
+
+    // Found collisions in the order they were found
+    private long[] keys;
+    private CollisionResponse[] responses;
+    private double[] times;
+    private int size;
+    private int pairTests;
+    private long duration;
+
+    /**
+     * @param components The dynamic components of the physics system
+     * @param broadphase The grids of the dynamic components by the index of their layer
+     * @param staticIndex The index of the static components
+     * @param layers The table of the layers which could interact
+     * @param colliders The synced colliders of all registered components
+     */
+    NarrowPhaseTask(ArrayList<DynamicPhysicsComponent> components, SpatialHashGrid[] broadphase, StaticColliderIndex staticIndex, CollisionLayerTable layers, ColliderStore colliders) {
+        this.components = components;
+        this.broadphase = broadphase;
+        this.staticIndex = staticIndex;
+        this.layers = layers;
+        this.colliders = colliders;
+        this.candidates = new ArrayList<>();
+        this.keys = new long[64];
+        this.responses = new CollisionResponse[64];
+        this.times = new double[64];
+    }
+
+    /**
+     * Prepare the task for the next physics step.
+     *
+     * @param from The index of the first component to check, inclusive
+     * @param to The index of the last component to check, exclusive
+     */
+    void prepare(int from, int to) {
+        this.reinitialize();
+        this.from = from;
+        this.to = to;
+        this.size = 0;
+        this.pairTests = 0;
+        this.duration = 0;
+    }
+
+    @Override
+    protected void compute() {
+        long start = System.nanoTime();
+
+        for (int i = this.from; i < this.to; i++) {
+            DynamicPhysicsComponent component = this.components.get(i);
+            int slot = component.getPhysicsSlot();
+
+            // Only components sharing a cell with the component can collide
+            int layer = CollisionLayerTable.indexOf(component.getLayer());
+            SpatialHashGrid grid = this.broadphase[layer];
+            int minX = grid.getMinX(slot);
+            int minY = grid.getMinY(slot);
+            int maxX = grid.getMaxX(slot);
+            int maxY = grid.getMaxY(slot);
+            this.candidates.clear();
+
+            // Skip the layers which can never interact with the layer of the component
+            int compatible = this.layers.getCompatibleLayers(layer);
+            while (compatible != 0) {
+                int otherLayer = Integer.numberOfTrailingZeros(compatible);
+                compatible &= compatible - 1;
+
+                if (this.broadphase[otherLayer].size() > 0) {
+                    this.broadphase[otherLayer].query(minX, minY, maxX, maxY, component, this.candidates);
+                }
+                this.staticIndex.query(otherLayer, minX, minY, maxX, maxY, this.candidates);
+            }
+
+            // Check for every candidate if the component has a collision with it
+            for (int j = 0; j < this.candidates.size(); j++) {
+                int otherSlot = this.candidates.get(j).getPhysicsSlot();
+                this.pairTests++;
+
+                double time = this.colliders.timeOfImpact(slot, otherSlot);
+                if (time != ColliderStore.NO_IMPACT) {
+                    this.add(PairSet.key(slot, otherSlot), this.colliders.responseOf(slot, otherSlot), time);
+                }
+            }
+        }
+
+        this.duration = System.nanoTime() - start;
+    }
+
+    private void add(long key, CollisionResponse response, double time) {
+        if (this.size == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, this.size * 2);
+            this.responses = Arrays.copyOf(this.responses, this.size * 2);
+            this.times = Arrays.copyOf(this.times, this.size * 2);
+        }
+        this.keys[this.size] = key;
+        this.responses[this.size] = response;
+        this.times[this.size] = time;
+        this.size++;
+    }
+
+    /**
+     * @return The number of collisions found
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * @return The key of the colliding pair, the first slot is the dynamic component
+     */
+    long keyAt(int index) {
+        return this.keys[index];
+    }
+
+    CollisionResponse responseAt(int index) {
+        return this.responses[index];
+    }
+
+    /**
+     * @return The time of impact of the collision from 0 to 1 during the step
+     */
+    double timeAt(int index) {
+        return this.times[index];
+    }
+
+    int getPairTests() {
+        return this.pairTests;
+    }
+
+    /**
+     * @return The time the task was running in nanoseconds
+     */
+    long getDuration() {
+        return this.duration;
+    }
+}
@@ -0,0 +1,142 @@
+package ZombieGame.Systems.Physic;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash set of component pairs with the collision response of the pair.
+ * The pair is packed as {@code (slotA << 32) | slotB} into a long, so the set can be cleared and refilled without allocating.
+ */
+final class PairSet {
+    private static final long EMPTY = -1L;
+    private static final CollisionResponse[] RESPONSES = CollisionResponse.values();
+
+    private long[] keys;
+    private byte[] responses;
+    private int size;
+    private int mask;
+
+    /**
+     * @param capacity The initial number of pairs which fit without growing
+     */
+    PairSet(int capacity) {
+        int tableSize = Integer.highestOneBit(Math.max(8, capacity * 2) - 1) << 1;
+        this.keys = new long[tableSize];
+        this.responses = new byte[tableSize];
+        this.mask = tableSize - 1;
+        Arrays.fill(this.keys, EMPTY);
+    }
+
+    /**
+     * @return The key of the pair
+     */
+    static long key(int slotA, int slotB) {
+        return ((long) slotA << 32) | (slotB & 0xFFFFFFFFL);
+    }
+
+    static int first(long key) {
+        return (int) (key >>> 32);
+    }
+
+    static int second(long key) {
+        return (int) key;
+    }
+
+    /**
+     * Add the pair or replace the response if it is already contained.
+     *
+     * @param key The key of the pair
+     * @param response The collision response of the pair
+     * @return {@code true} if the pair was not contained before
+     */
+    boolean put(long key, CollisionResponse response) {
+        // Keep the load factor at most 0.5
+        if ((this.size + 1) * 2 > this.keys.length) {
+            this.grow();
+        }
+
+        int i = this.indexOf(key);
+        boolean added = this.keys[i] == EMPTY;
+        if (added) {
+            this.keys[i] = key;
+            this.size++;
+        }
+        this.responses[i] = (byte) response.ordinal();
+        return added;
+    }
+
+    /**
+     * @param key The key of the pair
+     * @return The collision response of the pair or {@link CollisionResponse#None} if not contained
+     */
+    CollisionResponse get(long key) {
+        int i = this.indexOf(key);
+        if (this.keys[i] == EMPTY) {
+            return CollisionResponse.None;
+        }
+        return RESPONSES[this.responses[i]];
+    }
+
+    /**
+     * Remove all pairs but keep the allocated table.
+     */
+    void clear() {
+        if (this.size > 0) {
+            Arrays.fill(this.keys, EMPTY);
+            this.size = 0;
+        }
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * @return The size of the table, the entries can be iterated with {@link #isUsed(int)}, {@link #keyAt(int)} and {@link #responseAt(int)}
+     */
+    int capacity() {
+        return this.keys.length;
+    }
+
+    boolean isUsed(int index) {
+        return this.keys[index] != EMPTY;
+    }
+
+    long keyAt(int index) {
+        return this.keys[index];
+    }
+
+    CollisionResponse responseAt(int index) {
+        return RESPONSES[this.responses[index]];
+    }
+
+    private int indexOf(long key) {
+        int i = hash(key) & this.mask;
+        while (this.keys[i] != EMPTY && this.keys[i] != key) {
+            i = (i + 1) & this.mask;
+        }
+        return i;
+    }
+
+    private void grow() {
+        long[] oldKeys = this.keys;
+        byte[] oldResponses = this.responses;
+
+        this.keys = new long[oldKeys.length * 2];
+        this.responses = new byte[oldKeys.length * 2];
+        this.mask = this.keys.length - 1;
+        Arrays.fill(this.keys, EMPTY);
+
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != EMPTY) {
+                int i = this.indexOf(oldKeys[j]);
+                this.keys[i] = oldKeys[j];
+                this.responses[i] = oldResponses[j];
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
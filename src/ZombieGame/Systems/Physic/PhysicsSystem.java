@@ -1,11 +1,8 @@
 package ZombieGame.Systems.Physic;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Map.Entry;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import ZombieGame.Capabilities.DebuggableText;
@@ -18,26 +15,87 @@ import ZombieGame.Systems.Debug.DebugCategory;
 import ZombieGame.Systems.Debug.DebugCategoryMask;
 import ZombieGame.Systems.Debug.DebugSystem;
 
-enum EventType {
-	ENTER, STAY, EXIT
-}
-
-record CollisionEvent(DynamicPhysicsComponent component, PhysicsComponent other, CollisionResponse response, EventType type) {
-}
-
 public class PhysicsSystem implements DebuggableText {
 	private static PhysicsSystem instance;
-	private final HashSet<PhysicsComponent> registeredComponents;
-	private HashMap<PhysicsComponent, HashMap<PhysicsComponent, CollisionResponse>> previousBuffer;
-	private HashMap<PhysicsComponent, HashMap<PhysicsComponent, CollisionResponse>> currentBuffer;
+	// Size of the broadphase cells, about the size of a typical hit box
+	private static final double BROADPHASE_CELL_SIZE = 64;
+	private static final int INITIAL_CAPACITY = 1024;
+	// Dynamic components could have moved since the broadphase was built, queries search this far around the area
+	private static final double QUERY_MARGIN = BROADPHASE_CELL_SIZE;
+	// The parallel narrow phase splits the dynamic components in tasks of at least this size
+	private static final int MIN_COMPONENTS_PER_TASK = 32;
+	private static final int TASKS_PER_WORKER = 4;
+	private static final double NO_IMPACT = ColliderStore.NO_IMPACT;
+	private static final int ALL_LAYERS = (1 << CollisionLayerTable.LAYER_COUNT) - 1;
+	private static final int NO_EXIT = -1;
+
+	// Registered components by their slot, the slot is part of the keys of the collision pairs
+	private PhysicsComponent[] slots;
+	private int[] collisionCounts;
+	// Earliest blocking impact of the swept components in the last step, collisions behind it are dropped
+	private double[] impactTimes;
+	private int slotCount;
+	private int registeredCount;
+	private final ArrayList<Integer> freeSlots;
+	private final ArrayList<Integer> releasedSlots;
+
+	private final ArrayList<DynamicPhysicsComponent> dynamicComponents;
+	// Dynamic components are bucketed by the index of their layer
+	private final SpatialHashGrid[] broadphase;
+	private final StaticColliderIndex staticIndex;
+	private final CollisionLayerTable layers;
+	// Positions and shapes of the registered components by their slot
+	private final ColliderStore colliders;
+	private final ArrayList<PhysicsComponent> queryCandidates;
+	private final ArrayList<NarrowPhaseTask> narrowPhaseTasks;
+	private ForkJoinPool narrowPhasePool;
+	private boolean parallelNarrowPhase = false;
+	private int activeTasks = 0;
+	private PairSet previousPairs;
+	private PairSet currentPairs;
+	// The onEnter and onStay events in the order of the dynamic components
+	private final CollisionEventBuffer contactEvents;
+	// All events of the step in the order they are dispatched
+	private final CollisionEventBuffer events;
+	// The ended collisions linked by the slot of their dynamic component
+	private int[] exitHeads;
+	private long[] exitKeys;
+	private int[] exitNext;
 
 	private long lastUpdateDuration = -1;
 	private long lastEventDispatchDuration = -1;
+	private int lastPairTests = 0;
+	private long lastNarrowPhaseDuration = 0;
+	private long lastNarrowPhaseWork = 0;
+	// Time per dynamic component of the last sequential and the last parallel narrow phase in nanoseconds, 0 if not measured yet
+	private double lastSequentialTimePerComponent = 0;
+	private double lastParallelTimePerComponent = 0;
 
 	private PhysicsSystem() {
-		this.registeredComponents = new HashSet<>();
-		this.previousBuffer = new HashMap<>();
-		this.currentBuffer = new HashMap<>();
+		this.slots = new PhysicsComponent[INITIAL_CAPACITY];
+		this.collisionCounts = new int[INITIAL_CAPACITY];
+		this.impactTimes = new double[INITIAL_CAPACITY];
+		this.slotCount = 0;
+		this.registeredCount = 0;
+		this.freeSlots = new ArrayList<>();
+		this.releasedSlots = new ArrayList<>();
+		this.dynamicComponents = new ArrayList<>();
+		this.broadphase = new SpatialHashGrid[CollisionLayerTable.LAYER_COUNT];
+		for (int i = 0; i < this.broadphase.length; i++) {
+			this.broadphase[i] = new SpatialHashGrid(BROADPHASE_CELL_SIZE);
+		}
+		this.staticIndex = new StaticColliderIndex(BROADPHASE_CELL_SIZE);
+		this.layers = new CollisionLayerTable();
+		this.colliders = new ColliderStore(INITIAL_CAPACITY);
+		this.queryCandidates = new ArrayList<>();
+		this.narrowPhaseTasks = new ArrayList<>();
+		this.previousPairs = new PairSet(INITIAL_CAPACITY);
+		this.currentPairs = new PairSet(INITIAL_CAPACITY);
+		this.contactEvents = new CollisionEventBuffer(INITIAL_CAPACITY);
+		this.events = new CollisionEventBuffer(INITIAL_CAPACITY);
+		this.exitHeads = new int[INITIAL_CAPACITY];
+		this.exitKeys = new long[INITIAL_CAPACITY];
+		this.exitNext = new int[INITIAL_CAPACITY];
 		if (!DebugSystem.getInstance().registerDebuggable(this)) {
 			System.err.println("Failed to register PhysicsSystem to debug system");
 		}
@@ -54,6 +112,15 @@ public class PhysicsSystem implements DebuggableText {
 		return PhysicsSystem.instance;
 	}
 
+	/**
+	 * @param component The component to check
+	 * @return {@code true} if the component is registered in the physics system
+	 */
+	public boolean isRegistered(PhysicsComponent component) {
+		int slot = component.getPhysicsSlot();
+		return slot >= 0 && slot < this.slotCount && this.slots[slot] == component;
+	}
+
 	/**
 	 * Register a physics component for the physics calculation
 	 * 
@@ -62,12 +129,39 @@ public class PhysicsSystem implements DebuggableText {
 	 */
 	public boolean registerComponent(PhysicsComponent component) {
 		// Component is already registered
-		if (this.registeredComponents.contains(component)) {
+		if (this.isRegistered(component)) {
 			return true;
 		}
 		// Add unregistered component
 		else {
-			return this.registeredComponents.add(component);
+			int slot;
+			if (!this.freeSlots.isEmpty()) {
+				slot = this.freeSlots.removeLast();
+			} else {
+				if (this.slotCount == this.slots.length) {
+					this.slots = Arrays.copyOf(this.slots, this.slotCount * 2);
+					this.collisionCounts = Arrays.copyOf(this.collisionCounts, this.slotCount * 2);
+					this.impactTimes = Arrays.copyOf(this.impactTimes, this.slotCount * 2);
+					this.exitHeads = Arrays.copyOf(this.exitHeads, this.slotCount * 2);
+				}
+				slot = this.slotCount++;
+			}
+			this.slots[slot] = component;
+			component.setPhysicsSlot(slot);
+			this.registeredCount++;
+			this.layers.add(component);
+			this.colliders.set(component);
+
+			if (component instanceof DynamicPhysicsComponent dynamic) {
+				this.dynamicComponents.add(dynamic);
+				// Make it visible to queries before the next update
+				this.broadphaseOf(dynamic).insert(dynamic);
+			}
+			// Static components are indexed once when they get registered
+			if (component instanceof StaticPhysicsComponent staticComponent) {
+				this.staticIndex.add(staticComponent);
+			}
+			return true;
 		}
 	}
 
@@ -78,7 +172,35 @@ public class PhysicsSystem implements DebuggableText {
 	 * @return {@code true} if unregistering was successful, {@code false} if not successful or not contained
 	 */
 	public boolean unregisterComponent(PhysicsComponent component) {
-		return this.registeredComponents.remove(component);
+		if (!this.isRegistered(component)) {
+			return false;
+		}
+
+		if (component instanceof DynamicPhysicsComponent dynamic) {
+			this.dynamicComponents.remove(dynamic);
+			this.broadphaseOf(dynamic).remove(dynamic);
+		}
+		if (component instanceof StaticPhysicsComponent staticComponent) {
+			this.staticIndex.remove(staticComponent);
+		}
+
+		// The slot could still be part of pairs in the collision buffers, so it is reused after the next update
+		int slot = component.getPhysicsSlot();
+		this.slots[slot] = null;
+		this.collisionCounts[slot] = 0;
+		this.colliders.clear(slot);
+		this.releasedSlots.add(slot);
+		component.setPhysicsSlot(-1);
+		this.registeredCount--;
+		return true;
+	}
+
+	/**
+	 * @param component The dynamic component
+	 * @return The broadphase grid of the layer of the component
+	 */
+	private SpatialHashGrid broadphaseOf(PhysicsComponent component) {
+		return this.broadphase[CollisionLayerTable.indexOf(component.getLayer())];
 	}
 
 	/**
@@ -86,125 +208,254 @@ public class PhysicsSystem implements DebuggableText {
 	 */
 	public void update() {
 		try {
-			ArrayDeque<CollisionEvent> eventQueue = new ArrayDeque<>();
+			// Slots released before this step can only be part of the previous buffer which is dropped by this step
+			int releasedBeforeUpdate = this.releasedSlots.size();
 
-			// Swap the previous buffer with current buffer
-			this.previousBuffer = this.currentBuffer;
-			this.currentBuffer = new HashMap<>();
-			for (PhysicsComponent entry : this.registeredComponents) {
-				currentBuffer.put(entry, new HashMap<>());
-			}
+			// Swap the previous buffer with current buffer, both are reused every step
+			PairSet swap = this.previousPairs;
+			this.previousPairs = this.currentPairs;
+			this.currentPairs = swap;
+			this.currentPairs.clear();
+			Arrays.fill(this.collisionCounts, 0, this.slotCount, 0);
+			Arrays.fill(this.impactTimes, 0, this.slotCount, NO_IMPACT);
 
 			// Update all components
 			long start = System.currentTimeMillis();
-			Iterator<PhysicsComponent> componentsIt = this.currentBuffer.keySet().iterator();
-			while (componentsIt.hasNext()) {
-				PhysicsComponent component = componentsIt.next();
-
-				// When component is a dynamic physics component check for collisions
-				if (component instanceof DynamicPhysicsComponent) {
-					// Check for every other registered component if the invalid component has a collision with it
-					for (PhysicsComponent otherComponent : this.currentBuffer.keySet()) {
-						// Can not have collision with it self
-						if (otherComponent.equals(component)) {
-							continue;
-						}
-
-						// Check for collisions between invalid component and other component
-						CollisionResponse response = component.checkCollision(otherComponent);
-
-						// Look up the previous collision state to avoid firing onEnter every time
-						// the physics buffer is invalidated (e.g., when a character is moving).
-						CollisionResponse previous = this.previousBuffer.getOrDefault(component, new HashMap<>()).getOrDefault(otherComponent, CollisionResponse.None);
-
-						// There is a collision between invalid component and other component
-						if (response != CollisionResponse.None) {
-							// Try getting the entries for the invalid component
-							HashMap<PhysicsComponent, CollisionResponse> entriesForInvalid = this.currentBuffer.get(component);
-							if (entriesForInvalid != null) {
-								// Add an collision entry for invalid component with other component
-								entriesForInvalid.put(otherComponent, response);
-							} else {
-								throw new Exception("This should not be possible. Tried to add to component which is not registered");
-							}
-
-							// Try getting the entries for the other component
-							HashMap<PhysicsComponent, CollisionResponse> entriesForOther = this.currentBuffer.get(otherComponent);
-							if (entriesForOther != null) {
-								// Add an collision entry for other component with invalid component
-								entriesForOther.put(component, response);
-							} else {
-								throw new Exception("This should not be possible. Tried to add to component which is not registered");
-							}
-
-							// Previously there was no collision but now is -> onEnter
-							if (previous == CollisionResponse.None) {
-								// Save the event to process it later
-								eventQueue.add(new CollisionEvent((DynamicPhysicsComponent) component, otherComponent, response, EventType.ENTER));
-							}
-							// There was previously already a collision an still is -> onStay
-							else {
-								// Save the event to process it later
-								eventQueue.add(new CollisionEvent((DynamicPhysicsComponent) component, otherComponent, response, EventType.STAY));
-							}
-						}
-						// There is no collision anymore but was previously
-						else if (response == CollisionResponse.None && previous != CollisionResponse.None) {
-							// Try getting the entries for the invalid component
-							HashMap<PhysicsComponent, CollisionResponse> entriesForInvalid = this.currentBuffer.get(component);
-							if (entriesForInvalid != null) {
-								// Remove the previous collision entry for invalid component with other component
-								entriesForInvalid.remove(otherComponent);
-							} else {
-								throw new Exception("This should not be possible. Tried to remove from a component which is not registered");
-							}
-
-							// Try getting the entries for the other component
-							HashMap<PhysicsComponent, CollisionResponse> entriesForOther = this.currentBuffer.get(otherComponent);
-							if (entriesForOther != null) {
-								// Remove the previous collision entry for other component with invalid component
-								entriesForOther.remove(component);
-							} else {
-								throw new Exception("This should not be possible. Tried to remove from a component which is not registered");
-							}
-
-							// There was previously already a collision but is not anymore -> onExit
-							// Save the event to process it later
-							eventQueue.add(new CollisionEvent((DynamicPhysicsComponent) component, otherComponent, response, EventType.EXIT));
-						}
+			// Only dynamic components look for collisions, static components stay in their persistent index and are never paired with each other
+			for (SpatialHashGrid grid : this.broadphase) {
+				grid.clear();
+			}
+			// Static components never move, so only the positions of the dynamic components are synced into the collider store
+			for (int i = 0; i < this.dynamicComponents.size(); i++) {
+				DynamicPhysicsComponent component = this.dynamicComponents.get(i);
+				int slot = component.getPhysicsSlot();
+				this.colliders.sync(component);
+
+				SpatialHashGrid grid = this.broadphaseOf(component);
+				grid.insert(component, grid.toCell(this.colliders.getMinX(slot)), grid.toCell(this.colliders.getMinY(slot)), grid.toCell(this.colliders.getMaxX(slot)), grid.toCell(this.colliders.getMaxY(slot)));
+			}
+			this.runNarrowPhase();
+
+			// Find the first blocking impact of every swept component, it stops there and does not hit anything behind it.
+			// Collisions at the start of the step already existed before, like a projectile leaving its owner, so they are no impact.
+			this.lastPairTests = 0;
+			for (int t = 0; t < this.activeTasks; t++) {
+				NarrowPhaseTask task = this.narrowPhaseTasks.get(t);
+				this.lastPairTests += task.getPairTests();
+
+				for (int i = 0; i < task.size(); i++) {
+					double time = task.timeAt(i);
+					if (time > 0 && task.responseAt(i) == CollisionResponse.Block) {
+						this.recordImpact(PairSet.first(task.keyAt(i)), time);
+						this.recordImpact(PairSet.second(task.keyAt(i)), time);
+					}
+				}
+			}
+
+			// Merge the collisions in the order of the tasks, which is the order of the dynamic components.
+			// So the events are dispatched in the same order with and without the parallel narrow phase.
+			for (int t = 0; t < this.activeTasks; t++) {
+				NarrowPhaseTask task = this.narrowPhaseTasks.get(t);
+
+				for (int i = 0; i < task.size(); i++) {
+					long key = task.keyAt(i);
+					CollisionResponse response = task.responseAt(i);
+					int slot = PairSet.first(key);
+					int otherSlot = PairSet.second(key);
+					if (this.isBehindImpact(slot, task.timeAt(i)) || this.isBehindImpact(otherSlot, task.timeAt(i))) {
+						continue;
+					}
+					DynamicPhysicsComponent component = (DynamicPhysicsComponent) this.slots[slot];
+					PhysicsComponent otherComponent = this.slots[otherSlot];
+
+					// Add the collision entry for both components
+					if (this.currentPairs.put(key, response)) {
+						this.collisionCounts[slot]++;
+					}
+					if (this.currentPairs.put(PairSet.key(otherSlot, slot), response)) {
+						this.collisionCounts[otherSlot]++;
+					}
+
+					// Look up the previous collision state to avoid firing onEnter every step
+					// Previously there was no collision but now is -> onEnter
+					if (this.previousPairs.get(key) == CollisionResponse.None) {
+						this.contactEvents.add(component, otherComponent, response, EventType.ENTER);
+					}
+					// There was previously already a collision an still is -> onStay
+					else {
+						this.contactEvents.add(component, otherComponent, response, EventType.STAY);
 					}
 				}
 			}
+
+			// There was previously already a collision but is not anymore -> onExit
+			// The table is walked backwards, so the linked exits of a component keep the order of the table
+			Arrays.fill(this.exitHeads, 0, this.slotCount, NO_EXIT);
+			int exitCount = 0;
+			for (int i = this.previousPairs.capacity() - 1; i >= 0; i--) {
+				if (!this.previousPairs.isUsed(i)) {
+					continue;
+				}
+
+				long key = this.previousPairs.keyAt(i);
+				if (this.currentPairs.get(key) != CollisionResponse.None) {
+					continue;
+				}
+
+				// Components which got unregistered in the meantime are not notified
+				int slot = PairSet.first(key);
+				if (this.slots[slot] instanceof DynamicPhysicsComponent && this.slots[PairSet.second(key)] != null) {
+					if (exitCount == this.exitKeys.length) {
+						this.exitKeys = Arrays.copyOf(this.exitKeys, exitCount * 2);
+						this.exitNext = Arrays.copyOf(this.exitNext, exitCount * 2);
+					}
+					this.exitKeys[exitCount] = key;
+					this.exitNext[exitCount] = this.exitHeads[slot];
+					this.exitHeads[slot] = exitCount;
+					exitCount++;
+				}
+			}
+
+			// Dispatch the events per dynamic component like the collisions were checked, every component gets its onExit events after its onEnter and onStay events
+			int next = 0;
+			for (int c = 0; c < this.dynamicComponents.size(); c++) {
+				DynamicPhysicsComponent component = this.dynamicComponents.get(c);
+				while (next < this.contactEvents.size() && this.contactEvents.componentAt(next) == component) {
+					this.events.add(component, this.contactEvents.otherAt(next), this.contactEvents.responseAt(next), this.contactEvents.typeAt(next));
+					next++;
+				}
+				for (int e = this.exitHeads[component.getPhysicsSlot()]; e != NO_EXIT; e = this.exitNext[e]) {
+					this.events.add(component, this.slots[PairSet.second(this.exitKeys[e])], CollisionResponse.None, EventType.EXIT);
+				}
+			}
+			this.contactEvents.clear();
 			this.lastUpdateDuration = (System.currentTimeMillis() - start);
 
 			// Dispatch callbacks
-			Iterator<CollisionEvent> eventIt = eventQueue.iterator();
-			while (eventIt.hasNext()) {
-				CollisionEvent event = eventIt.next();
-				switch (event.type()) {
+			for (int i = 0; i < this.events.size(); i++) {
+				DynamicPhysicsComponent component = this.events.componentAt(i);
+				Collision collision = this.events.otherAt(i).asCollision(this.events.responseAt(i));
+				switch (this.events.typeAt(i)) {
 					case ENTER:
-						event.component().onEnter.accept(new Collision(event.other().getEntity(), event.response()));
+						component.onEnter.accept(collision);
 						break;
 					case STAY:
-						event.component().onStay.accept(new Collision(event.other().getEntity(), event.response()));
+						component.onStay.accept(collision);
 						break;
 					case EXIT:
-						event.component().onExit.accept(new Collision(event.other().getEntity(), event.response()));
+						component.onExit.accept(collision);
 						break;
 					default:
 						throw new Exception("Unknown Event type");
 				}
-
-				eventIt.remove();
 			}
+			this.events.clear();
 			this.lastEventDispatchDuration = (System.currentTimeMillis() - start - this.lastUpdateDuration);
 
+			for (int i = 0; i < releasedBeforeUpdate; i++) {
+				this.freeSlots.add(this.releasedSlots.get(i));
+			}
+			this.releasedSlots.subList(0, releasedBeforeUpdate).clear();
+
 		} catch (Exception e) {
+			this.contactEvents.clear();
+			this.events.clear();
 			System.err.println("Failed updating Physics component with following error:");
 			System.err.println(e.getMessage());
 		}
 	}
 
+	private void recordImpact(int slot, double time) {
+		if (this.colliders.isSwept(slot) && (this.impactTimes[slot] == NO_IMPACT || time < this.impactTimes[slot])) {
+			this.impactTimes[slot] = time;
+		}
+	}
+
+	private boolean isBehindImpact(int slot, double time) {
+		return this.impactTimes[slot] != NO_IMPACT && time > this.impactTimes[slot];
+	}
+
+	/**
+	 * Fast projectiles are checked along their whole movement of the step, so they hit at any frame rate.
+	 * 
+	 * @param component The component to check
+	 * @return The time of the first blocking impact of the component in the last step from 0 at its previous to 1 at its current position, or -1 if it had none or was not swept
+	 */
+	public double getTimeOfImpact(PhysicsComponent component) {
+		if (!this.isRegistered(component)) {
+			System.err.println("PhysicsComponent of Entity is not registered!");
+			return NO_IMPACT;
+		}
+
+		return this.impactTimes[component.getPhysicsSlot()];
+	}
+
+	/**
+	 * Check the collisions of all dynamic components against their broadphase candidates.
+	 * The dynamic components are split in consecutive ranges, which run in parallel if the parallel narrow phase is enabled.
+	 */
+	private void runNarrowPhase() {
+		long start = System.nanoTime();
+
+		int count = this.dynamicComponents.size();
+		int taskCount = 1;
+		if (this.parallelNarrowPhase) {
+			taskCount = Math.max(1, Math.min(this.narrowPhasePool.getParallelism() * TASKS_PER_WORKER, count / MIN_COMPONENTS_PER_TASK));
+		}
+
+		while (this.narrowPhaseTasks.size() < taskCount) {
+			this.narrowPhaseTasks.add(new NarrowPhaseTask(this.dynamicComponents, this.broadphase, this.staticIndex, this.layers, this.colliders));
+		}
+		for (int t = 0; t < taskCount; t++) {
+			this.narrowPhaseTasks.get(t).prepare(count * t / taskCount, count * (t + 1) / taskCount);
+		}
+
+		if (taskCount == 1) {
+			// Run in this thread
+			this.narrowPhaseTasks.get(0).invoke();
+		} else {
+			for (int t = 0; t < taskCount; t++) {
+				this.narrowPhasePool.execute(this.narrowPhaseTasks.get(t));
+			}
+			for (int t = 0; t < taskCount; t++) {
+				this.narrowPhaseTasks.get(t).join();
+			}
+		}
+		this.activeTasks = taskCount;
+
+		this.lastNarrowPhaseDuration = System.nanoTime() - start;
+		if (count > 0) {
+			if (this.parallelNarrowPhase) {
+				this.lastParallelTimePerComponent = (double) this.lastNarrowPhaseDuration / count;
+			} else {
+				this.lastSequentialTimePerComponent = (double) this.lastNarrowPhaseDuration / count;
+			}
+		}
+		this.lastNarrowPhaseWork = 0;
+		for (int t = 0; t < taskCount; t++) {
+			this.lastNarrowPhaseWork += this.narrowPhaseTasks.get(t).getDuration();
+		}
+	}
+
+	/**
+	 * @return {@code true} if the collision checks are split across multiple threads
+	 */
+	public boolean isParallelNarrowPhase() {
+		return this.parallelNarrowPhase;
+	}
+
+	/**
+	 * The collision checks of the dynamic components could run in parallel. The events are still dispatched in this thread and in the same order.
+	 * 
+	 * @param parallel {@code true} if the collision checks should be split across multiple threads
+	 */
+	public void setParallelNarrowPhase(boolean parallel) {
+		if (parallel && this.narrowPhasePool == null) {
+			this.narrowPhasePool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+		}
+		this.parallelNarrowPhase = parallel;
+	}
+
 	/**
 	 * Get collisions of the entity with another registered entity.
 	 * 
@@ -231,20 +482,22 @@ public class PhysicsSystem implements DebuggableText {
 		ArrayList<Collision> result = new ArrayList<>();
 
 		// Physics component is not registered in the PhysicsSystem
-		if (!this.registeredComponents.contains(component)) {
+		if (!this.isRegistered(component)) {
 			System.err.println("PhysicsComponent of Entity is not registered!");
 			return result;
 		}
 
-		HashMap<PhysicsComponent, CollisionResponse> entriesForComponent = this.currentBuffer.get(component);
-		if (entriesForComponent == null) {
-			System.err.println("getCollisions: Could not find entries for PhysicsComponent of Entity!");
+		int slot = component.getPhysicsSlot();
+		if (this.collisionCounts[slot] == 0) {
 			return result;
 		}
 
-		for (Entry<PhysicsComponent, CollisionResponse> entry : entriesForComponent.entrySet()) {
-			if (entry.getValue() != CollisionResponse.None) {
-				result.add(new Collision(entry.getKey().getEntity(), entry.getValue()));
+		for (int i = 0; i < this.currentPairs.capacity(); i++) {
+			if (this.currentPairs.isUsed(i) && PairSet.first(this.currentPairs.keyAt(i)) == slot) {
+				PhysicsComponent otherComponent = this.slots[PairSet.second(this.currentPairs.keyAt(i))];
+				if (otherComponent != null) {
+					result.add(otherComponent.asCollision(this.currentPairs.responseAt(i)));
+				}
 			}
 		}
 
@@ -276,28 +529,13 @@ public class PhysicsSystem implements DebuggableText {
 	 * @return {@code true} when the first collision was found
 	 */
 	public boolean hasCollision(PhysicsComponent component) {
-		AtomicBoolean result = new AtomicBoolean(false);
-
 		// Physics component is not registered in the PhysicsSystem
-		if (!this.registeredComponents.contains(component)) {
+		if (!this.isRegistered(component)) {
 			System.err.println("PhysicsComponent of Entity is not registered!");
 			return false;
 		}
 
-		HashMap<PhysicsComponent, CollisionResponse> entriesForComponent = this.currentBuffer.get(component);
-		if (entriesForComponent == null) {
-			System.err.println("hasCollision: Could not find entries for PhysicsComponent of Entity!");
-			return false;
-		}
-
-		for (CollisionResponse response : entriesForComponent.values()) {
-			if (response != CollisionResponse.None) {
-				result.set(true);
-				break;
-			}
-		}
-
-		return result.get();
+		return this.collisionCounts[component.getPhysicsSlot()] > 0;
 	}
 
 	/**
@@ -375,11 +613,13 @@ public class PhysicsSystem implements DebuggableText {
 		AtomicBoolean result = new AtomicBoolean(false);
 
 		// Physics component is not registered in the PhysicsSystem
-		if (this.registeredComponents.contains(component)) {
+		if (this.isRegistered(component)) {
 			throw new IllegalArgumentException("PhysicsComponent of Entity is registered, use 'hasCollision' instead if this is expected!");
 		}
 
-		for (PhysicsComponent otherComponent : this.registeredComponents) {
+		this.collectCandidates(component.getBoundsMin(), component.getBoundsMax(), this.layers.getCompatibleLayers(component), this.queryCandidates);
+		for (int i = 0; i < this.queryCandidates.size(); i++) {
+			PhysicsComponent otherComponent = this.queryCandidates.get(i);
 			if (otherComponent.equals(component)) {
 				continue;
 			}
@@ -411,7 +651,9 @@ public class PhysicsSystem implements DebuggableText {
 	}
 
 	private boolean hasBlockingCollisionExcept(PhysicsComponent component, Entity owner, Entity except) {
-		for (PhysicsComponent otherComponent : this.registeredComponents) {
+		this.collectCandidates(component.getBoundsMin(), component.getBoundsMax(), this.layers.getCompatibleLayers(component), this.queryCandidates);
+		for (int i = 0; i < this.queryCandidates.size(); i++) {
+			PhysicsComponent otherComponent = this.queryCandidates.get(i);
 			// skip self
 			if (otherComponent.equals(component)) {
 				continue;
@@ -431,6 +673,90 @@ public class PhysicsSystem implements DebuggableText {
 		return false;
 	}
 
+	/**
+	 * Get all registered components whose hit box bounds overlap the area.
+	 * 
+	 * @param min The minimum corner of the area
+	 * @param max The maximum corner of the area
+	 * @return A list of the components overlapping the area
+	 */
+	public ArrayList<PhysicsComponent> queryBounds(WorldPos min, WorldPos max) {
+		ArrayList<PhysicsComponent> result = new ArrayList<>();
+
+		this.collectCandidates(min, max, ALL_LAYERS, this.queryCandidates);
+		for (int i = 0; i < this.queryCandidates.size(); i++) {
+			PhysicsComponent component = this.queryCandidates.get(i);
+			WorldPos componentMin = component.getBoundsMin();
+			WorldPos componentMax = component.getBoundsMax();
+			if (componentMin.x() <= max.x() && min.x() <= componentMax.x() && componentMin.y() <= max.y() && min.y() <= componentMax.y()) {
+				result.add(component);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Get all registered components whose hit box bounds are within the radius around the center.
+	 * 
+	 * @param center The center of the area
+	 * @param radius The radius of the area
+	 * @return A list of the components within the radius
+	 */
+	public ArrayList<PhysicsComponent> queryRadius(WorldPos center, double radius) {
+		ArrayList<PhysicsComponent> result = new ArrayList<>();
+
+		this.collectCandidates(center.sub(radius, radius), center.add(radius, radius), ALL_LAYERS, this.queryCandidates);
+		for (int i = 0; i < this.queryCandidates.size(); i++) {
+			PhysicsComponent component = this.queryCandidates.get(i);
+			WorldPos componentMin = component.getBoundsMin();
+			WorldPos componentMax = component.getBoundsMax();
+
+			// Distance from the center to the closest point of the bounds
+			double dx = center.x() - Math.max(componentMin.x(), Math.min(center.x(), componentMax.x()));
+			double dy = center.y() - Math.max(componentMin.y(), Math.min(center.y(), componentMax.y()));
+			if (dx * dx + dy * dy <= radius * radius) {
+				result.add(component);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Collect the registered components which could overlap the area from the spatial indices. Every component is only added once.
+	 * 
+	 * @param min The minimum corner of the area
+	 * @param max The maximum corner of the area
+	 * @param layerBits The bits of the layers to search
+	 * @param result The list which is cleared and filled with the candidates
+	 */
+	private void collectCandidates(WorldPos min, WorldPos max, int layerBits, ArrayList<PhysicsComponent> result) {
+		result.clear();
+		// All grids use the same cell size, so the cells fit every layer
+		SpatialHashGrid cells = this.broadphase[0];
+		int staticMinX = cells.toCell(min.x());
+		int staticMinY = cells.toCell(min.y());
+		int staticMaxX = cells.toCell(max.x());
+		int staticMaxY = cells.toCell(max.y());
+		// Dynamic components are searched in a wider area as they could have moved since the last update
+		int dynamicMinX = cells.toCell(min.x() - QUERY_MARGIN);
+		int dynamicMinY = cells.toCell(min.y() - QUERY_MARGIN);
+		int dynamicMaxX = cells.toCell(max.x() + QUERY_MARGIN);
+		int dynamicMaxY = cells.toCell(max.y() + QUERY_MARGIN);
+
+		int remaining = layerBits & ALL_LAYERS;
+		while (remaining != 0) {
+			int layer = Integer.numberOfTrailingZeros(remaining);
+			remaining &= remaining - 1;
+
+			this.staticIndex.query(layer, staticMinX, staticMinY, staticMaxX, staticMaxY, result);
+			if (this.broadphase[layer].size() > 0) {
+				this.broadphase[layer].query(dynamicMinX, dynamicMinY, dynamicMaxX, dynamicMaxY, null, result);
+			}
+		}
+	}
+
 	/**
 	 * Calculates the distance between two points
 	 * 
@@ -452,22 +778,26 @@ public class PhysicsSystem implements DebuggableText {
 	public ArrayList<String> getTextElements() {
 		ArrayList<String> elements = new ArrayList<>();
 
-		int staticCount = 0;
-		int dynamicCount = 0;
-		int coll = 0;
-		for (PhysicsComponent c : this.registeredComponents) {
-			coll += this.getCollisions(c).size();
-			if (c instanceof DynamicPhysicsComponent) {
-				dynamicCount++;
-			}
-			if (c instanceof StaticPhysicsComponent) {
-				staticCount++;
-			}
+		elements.add(String.format("Physics Components: %d", this.registeredCount));
+		elements.add(String.format("Physics Static Components: %d", this.staticIndex.size()));
+		elements.add(String.format("Physics Dynamic Components: %d", this.dynamicComponents.size()));
+		elements.add(String.format("Physics Collisions: %d", this.currentPairs.size()));
+		int broadphaseCells = 0;
+		for (SpatialHashGrid grid : this.broadphase) {
+			broadphaseCells += grid.getCellCount();
+		}
+		elements.add(String.format("Physics Broadphase Cells: %d", broadphaseCells));
+		elements.add(String.format("Physics Layer Pairs: %d of %d", this.layers.getPairCount(), CollisionLayerTable.LAYER_COUNT * (CollisionLayerTable.LAYER_COUNT + 1) / 2));
+		elements.add(String.format("Physics Pair Tests: %d", this.lastPairTests));
+		elements.add(String.format("Physics narrow phase: %s (%d tasks)", this.parallelNarrowPhase ? "parallel" : "sequential", this.activeTasks));
+		elements.add(String.format("Physics narrow phase time: %.2f ms", this.lastNarrowPhaseDuration / 1_000_000.0));
+		elements.add(String.format("Physics narrow phase parallelism (task time / wall time): %.2fx", this.lastNarrowPhaseDuration > 0 ? (double) this.lastNarrowPhaseWork / this.lastNarrowPhaseDuration : 1.0));
+		// Both paths have to run once, the times are compared per dynamic component as the number of components changes
+		if (this.lastSequentialTimePerComponent > 0 && this.lastParallelTimePerComponent > 0) {
+			elements.add(String.format("Physics narrow phase speedup (sequential / parallel): %.2fx", this.lastSequentialTimePerComponent / this.lastParallelTimePerComponent));
+		} else {
+			elements.add("Physics narrow phase speedup (sequential / parallel): toggle the parallel narrow phase to measure");
 		}
-		elements.add(String.format("Physics Components: %d", this.registeredComponents.size()));
-		elements.add(String.format("Physics Static Components: %d", staticCount));
-		elements.add(String.format("Physics Dynamic Components: %d", dynamicCount));
-		elements.add(String.format("Physics Collisions: %d", coll));
 		elements.add(String.format("Physics update time: %d", this.lastUpdateDuration));
 		elements.add(String.format("Physics event dispatch time: %d", this.lastEventDispatchDuration));
 		return elements;
@@ -35,4 +35,16 @@ public class RectangleHitBox extends HitBox {
     public int getHeight() {
         return this.height;
     }
+
+    // The collision checks treat the position against rectangles as top-left corner and against circles as center, the bounds enclose both
+
+    @Override
+    public Offset getBoundsMin() {
+        return this.getOffset().sub(this.width / 2, this.height / 2);
+    }
+
+    @Override
+    public Offset getBoundsMax() {
+        return this.getOffset().add(this.width, this.height);
+    }
 }
@@ -0,0 +1,370 @@
+package ZombieGame.Systems.Physic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import ZombieGame.Components.PhysicsComponent;
+import ZombieGame.Coordinates.WorldPos;
+
+/**
+ * Uniform grid which sorts the physics components into the cells covered by the bounds of their hit box.
+ * Only components sharing at least one cell can collide.
+ * The cells are found by an open addressing table with the cell coordinates packed as {@code (x << 32) | y} into a long,
+ * the cells covered by a component are stored by the slot of the component, so clearing and refilling the grid does not allocate.
+ */
+final class SpatialHashGrid {
+    private static final int NO_CELL = -1;
+
+    private final double cellSize;
+
+    // Open addressing table from the key of a cell to the index of the cell
+    private long[] tableKeys;
+    private int[] tableCells;
+    private int tableMask;
+
+    // The cells stored densely, the member arrays behind the cell count are kept to be reused by new cells
+    private long[] cellKeys;
+    private PhysicsComponent[][] cellMembers;
+    private int[] cellSizes;
+    private int cellCount;
+    private int usedCellCount;
+
+    // The cells covered by a component by the slot of the component, both corners are inclusive
+    private int[] minX;
+    private int[] minY;
+    private int[] maxX;
+    private int[] maxY;
+    private boolean[] contained;
+    private int size;
+
+    /**
+     * @param cellSize The width and height of a cell, should be about the size of a typical hit box
+     */
+    SpatialHashGrid(double cellSize) {
+        this.cellSize = cellSize;
+
+        this.tableKeys = new long[64];
+        this.tableCells = new int[64];
+        this.tableMask = 63;
+        Arrays.fill(this.tableCells, NO_CELL);
+
+        this.cellKeys = new long[32];
+        this.cellMembers = new PhysicsComponent[32][];
+        this.cellSizes = new int[32];
+
+        this.minX = new int[64];
+        this.minY = new int[64];
+        this.maxX = new int[64];
+        this.maxY = new int[64];
+        this.contained = new boolean[64];
+    }
+
+    /**
+     * Remove all components from the grid. The cells and their member arrays are kept to avoid allocating them again when refilling the grid.
+     */
+    void clear() {
+        for (int c = 0; c < this.cellCount; c++) {
+            Arrays.fill(this.cellMembers[c], 0, this.cellSizes[c], null);
+            this.cellSizes[c] = 0;
+        }
+        this.usedCellCount = 0;
+
+        if (this.size > 0) {
+            Arrays.fill(this.contained, false);
+            this.size = 0;
+        }
+    }
+
+    /**
+     * Add the component with its current position to the grid.
+     *
+     * @param component The component to add
+     */
+    void insert(PhysicsComponent component) {
+        WorldPos min = component.getBoundsMin();
+        WorldPos max = component.getBoundsMax();
+        this.insert(component, this.toCell(min.x()), this.toCell(min.y()), this.toCell(max.x()), this.toCell(max.y()));
+    }
+
+    /**
+     * Add the component with the bounds it already knows to the grid. A component which is already in the grid has to be removed first.
+     *
+     * @param component The component to add
+     * @param minX The minimum cell on the x axis, inclusive
+     * @param minY The minimum cell on the y axis, inclusive
+     * @param maxX The maximum cell on the x axis, inclusive
+     * @param maxY The maximum cell on the y axis, inclusive
+     */
+    void insert(PhysicsComponent component, int minX, int minY, int maxX, int maxY) {
+        int slot = component.getPhysicsSlot();
+        this.ensureCapacity(slot);
+        if (this.contained[slot]) {
+            System.err.println("Tried to insert a component which is already in the grid");
+            return;
+        }
+
+        this.minX[slot] = minX;
+        this.minY[slot] = minY;
+        this.maxX[slot] = maxX;
+        this.maxY[slot] = maxY;
+        this.contained[slot] = true;
+        this.size++;
+
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                this.addToCell(this.cellOf(key(x, y)), component);
+            }
+        }
+    }
+
+    /**
+     * Remove the component from all cells it was added to. The cells stay in the grid even if they are empty.
+     *
+     * @param component The component to remove
+     * @return {@code true} if the component was in the grid
+     */
+    boolean remove(PhysicsComponent component) {
+        int slot = component.getPhysicsSlot();
+        if (!this.contains(slot)) {
+            return false;
+        }
+        this.contained[slot] = false;
+        this.size--;
+
+        for (int y = this.minY[slot]; y <= this.maxY[slot]; y++) {
+            for (int x = this.minX[slot]; x <= this.maxX[slot]; x++) {
+                int cell = this.tableCells[this.indexOf(key(x, y))];
+                if (cell != NO_CELL) {
+                    this.removeFromCell(cell, component);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collect all components which share at least one cell with the component. Every component is only added once.
+     *
+     * @param component The component which has to be in the grid
+     * @param result The list the candidates are added to
+     */
+    void query(PhysicsComponent component, ArrayList<PhysicsComponent> result) {
+        int slot = component.getPhysicsSlot();
+        if (!this.contains(slot)) {
+            System.err.println("Tried to query a component which is not in the grid");
+            return;
+        }
+        this.query(this.minX[slot], this.minY[slot], this.maxX[slot], this.maxY[slot], component, result);
+    }
+
+    /**
+     * Collect all components which cover at least one cell of the range. Every component is only added once.
+     *
+     * @param minX The minimum cell on the x axis, inclusive
+     * @param minY The minimum cell on the y axis, inclusive
+     * @param maxX The maximum cell on the x axis, inclusive
+     * @param maxY The maximum cell on the y axis, inclusive
+     * @param except A component which should not be collected, could be {@code null}
+     * @param result The list the candidates are added to
+     */
+    void query(int minX, int minY, int maxX, int maxY, PhysicsComponent except, ArrayList<PhysicsComponent> result) {
+        if (this.usedCellCount == 0) {
+            return;
+        }
+
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                int cell = this.tableCells[this.indexOf(key(x, y))];
+                if (cell == NO_CELL) {
+                    continue;
+                }
+
+                PhysicsComponent[] members = this.cellMembers[cell];
+                for (int i = 0; i < this.cellSizes[cell]; i++) {
+                    PhysicsComponent other = members[i];
+                    if (other == except) {
+                        continue;
+                    }
+
+                    // Only report the component in the first cell it shares with the range
+                    int otherSlot = other.getPhysicsSlot();
+                    if (x == Math.max(minX, this.minX[otherSlot]) && y == Math.max(minY, this.minY[otherSlot])) {
+                        result.add(other);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if the component of the slot is in the grid
+     */
+    boolean contains(int slot) {
+        return slot >= 0 && slot < this.contained.length && this.contained[slot];
+    }
+
+    /**
+     * @return The minimum cell on the x axis covered by the component of the slot, only valid if it {@link #contains(int) is in the grid}
+     */
+    int getMinX(int slot) {
+        return this.minX[slot];
+    }
+
+    int getMinY(int slot) {
+        return this.minY[slot];
+    }
+
+    int getMaxX(int slot) {
+        return this.maxX[slot];
+    }
+
+    int getMaxY(int slot) {
+        return this.maxY[slot];
+    }
+
+    /**
+     * @return The number of components in the grid
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * @return The number of cells which contain components
+     */
+    int getCellCount() {
+        return this.usedCellCount;
+    }
+
+    /**
+     * @param coordinate The world coordinate on either axis
+     * @return The cell which contains the coordinate
+     */
+    int toCell(double coordinate) {
+        return (int) Math.floor(coordinate / this.cellSize);
+    }
+
+    private void addToCell(int cell, PhysicsComponent component) {
+        PhysicsComponent[] members = this.cellMembers[cell];
+        int count = this.cellSizes[cell];
+        if (count == members.length) {
+            members = Arrays.copyOf(members, count * 2);
+            this.cellMembers[cell] = members;
+        }
+        if (count == 0) {
+            this.usedCellCount++;
+        }
+        members[count] = component;
+        this.cellSizes[cell] = count + 1;
+    }
+
+    private void removeFromCell(int cell, PhysicsComponent component) {
+        PhysicsComponent[] members = this.cellMembers[cell];
+        int count = this.cellSizes[cell];
+        for (int i = 0; i < count; i++) {
+            if (members[i] == component) {
+                // Keep the order of the other members, so the candidates are found in the same order
+                System.arraycopy(members, i + 1, members, i, count - i - 1);
+                members[count - 1] = null;
+                this.cellSizes[cell] = count - 1;
+                if (count == 1) {
+                    this.usedCellCount--;
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * @param key The key of the cell
+     * @return The index of the cell, it is created if the grid has no cell with the key yet
+     */
+    private int cellOf(long key) {
+        int i = this.indexOf(key);
+        if (this.tableCells[i] != NO_CELL) {
+            return this.tableCells[i];
+        }
+
+        // Keep the load factor at most 0.5, the empty cells are dropped before the table grows
+        if ((this.cellCount + 1) * 2 > this.tableKeys.length) {
+            this.compact();
+            i = this.indexOf(key);
+        }
+
+        int cell = this.cellCount++;
+        if (cell == this.cellKeys.length) {
+            this.cellKeys = Arrays.copyOf(this.cellKeys, cell * 2);
+            this.cellMembers = Arrays.copyOf(this.cellMembers, cell * 2);
+            this.cellSizes = Arrays.copyOf(this.cellSizes, cell * 2);
+        }
+        if (this.cellMembers[cell] == null) {
+            this.cellMembers[cell] = new PhysicsComponent[4];
+        }
+        this.cellKeys[cell] = key;
+        this.cellSizes[cell] = 0;
+        this.tableKeys[i] = key;
+        this.tableCells[i] = cell;
+        return cell;
+    }
+
+    /**
+     * Drop the empty cells and rebuild the table, it only grows if more than half of it would still be used afterwards.
+     */
+    private void compact() {
+        int kept = 0;
+        for (int c = 0; c < this.cellCount; c++) {
+            if (this.cellSizes[c] > 0) {
+                // Swap the member arrays, so the array of the dropped cell is kept for reuse
+                PhysicsComponent[] members = this.cellMembers[kept];
+                this.cellMembers[kept] = this.cellMembers[c];
+                this.cellMembers[c] = members;
+                this.cellKeys[kept] = this.cellKeys[c];
+                this.cellSizes[kept] = this.cellSizes[c];
+                kept++;
+            }
+        }
+        this.cellCount = kept;
+
+        if ((this.cellCount + 1) * 2 > this.tableKeys.length) {
+            this.tableKeys = new long[this.tableKeys.length * 2];
+            this.tableCells = new int[this.tableKeys.length];
+            this.tableMask = this.tableKeys.length - 1;
+        }
+        Arrays.fill(this.tableCells, NO_CELL);
+        for (int c = 0; c < this.cellCount; c++) {
+            int i = this.indexOf(this.cellKeys[c]);
+            this.tableKeys[i] = this.cellKeys[c];
+            this.tableCells[i] = c;
+        }
+    }
+
+    private int indexOf(long key) {
+        int i = hash(key) & this.tableMask;
+        while (this.tableCells[i] != NO_CELL && this.tableKeys[i] != key) {
+            i = (i + 1) & this.tableMask;
+        }
+        return i;
+    }
+
+    private void ensureCapacity(int slot) {
+        if (slot < this.contained.length) {
+            return;
+        }
+
+        int capacity = Math.max(slot + 1, this.contained.length * 2);
+        this.minX = Arrays.copyOf(this.minX, capacity);
+        this.minY = Arrays.copyOf(this.minY, capacity);
+        this.maxX = Arrays.copyOf(this.maxX, capacity);
+        this.maxY = Arrays.copyOf(this.maxY, capacity);
+        this.contained = Arrays.copyOf(this.contained, capacity);
+    }
+
+    private static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
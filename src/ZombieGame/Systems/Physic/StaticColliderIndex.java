@@ -0,0 +1,77 @@
+package ZombieGame.Systems.Physic;
+
+import java.util.ArrayList;
+
+import ZombieGame.Components.PhysicsComponent;
+import ZombieGame.Components.StaticPhysicsComponent;
+
+/**
+ * Persistent index of the registered {@link StaticPhysicsComponent static physics components}.
+ * Static components never move, so they are only sorted into the grid when they get registered and not every physics step.
+ * Every {@link PhysicsCollisionLayer layer} has its own grid, so only the layers which could interact have to be searched.
+ */
+final class StaticColliderIndex {
+    private final SpatialHashGrid[] grids;
+
+    /**
+     * @param cellSize The width and height of a cell of the grid
+     */
+    StaticColliderIndex(double cellSize) {
+        this.grids = new SpatialHashGrid[CollisionLayerTable.LAYER_COUNT];
+        for (int i = 0; i < this.grids.length; i++) {
+            this.grids[i] = new SpatialHashGrid(cellSize);
+        }
+    }
+
+    /**
+     * @param component The registered component to add
+     * @return {@code true} if the component was added or was already added
+     */
+    boolean add(StaticPhysicsComponent component) {
+        SpatialHashGrid grid = this.gridOf(component);
+        if (!grid.contains(component.getPhysicsSlot())) {
+            grid.insert(component);
+        }
+        return true;
+    }
+
+    /**
+     * @param component The component to remove
+     * @return {@code true} if the component was removed
+     */
+    boolean remove(StaticPhysicsComponent component) {
+        return this.gridOf(component).remove(component);
+    }
+
+    private SpatialHashGrid gridOf(PhysicsComponent component) {
+        return this.grids[CollisionLayerTable.indexOf(component.getLayer())];
+    }
+
+    /**
+     * Collect all static components of the layer which cover at least one cell of the range. Every component is only added once.
+     *
+     * @param layerIndex The index of the layer to search
+     * @param minX The minimum cell on the x axis, inclusive
+     * @param minY The minimum cell on the y axis, inclusive
+     * @param maxX The maximum cell on the x axis, inclusive
+     * @param maxY The maximum cell on the y axis, inclusive
+     * @param result The list the candidates are added to
+     */
+    void query(int layerIndex, int minX, int minY, int maxX, int maxY, ArrayList<PhysicsComponent> result) {
+        SpatialHashGrid grid = this.grids[layerIndex];
+        if (grid.size() > 0) {
+            grid.query(minX, minY, maxX, maxY, null, result);
+        }
+    }
+
+    /**
+     * @return The number of static components in the index
+     */
+    int size() {
+        int size = 0;
+        for (SpatialHashGrid grid : this.grids) {
+            size += grid.size();
+        }
+        return size;
+    }
+}
@@ -9,19 +9,50 @@ public final class Viewport {
     public static int SCROLL_BOUNDS = 800;
 
     private WorldPos worldPart;
+    private WorldPos previousWorldPart;
+    private double interpolationAlpha = 1.0;
 
     public Viewport() {
-        this.worldPart = new WorldPos(-screenWidth / 2, -screenHeight / 2);
+        this(new WorldPos(-screenWidth / 2, -screenHeight / 2));
     }
 
     public Viewport(WorldPos pos) {
         this.worldPart = pos;
+        this.previousWorldPart = pos;
     }
 
     public WorldPos getWorldPart() {
         return this.worldPart;
     }
 
+    /**
+     * @return The world part interpolated between the last two simulation steps. Should only be used for drawing.
+     */
+    public WorldPos getRenderWorldPart() {
+        return this.previousWorldPart.add(this.worldPart.sub(this.previousWorldPart).mul(this.interpolationAlpha));
+    }
+
+    /**
+     * Remembers the current world part as the state of the last simulation step.
+     */
+    public void storePreviousWorldPart() {
+        this.previousWorldPart = this.worldPart;
+    }
+
+    /**
+     * @return The fraction of a simulation step which passed since the last simulation step
+     */
+    public double getInterpolationAlpha() {
+        return this.interpolationAlpha;
+    }
+
+    /**
+     * @param alpha The fraction of a simulation step which passed since the last simulation step, between 0 and 1
+     */
+    public void setInterpolationAlpha(double alpha) {
+        this.interpolationAlpha = Math.max(0.0, Math.min(1.0, alpha));
+    }
+
     /**
      * @param offset Offset added to the current world part
      */
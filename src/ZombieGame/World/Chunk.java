@@ -3,11 +3,11 @@ package ZombieGame.World;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.security.InvalidParameterException;
 import java.util.Optional;
-import java.util.UUID;
 
 import javax.imageio.ImageIO;
 
@@ -16,7 +16,7 @@ import ZombieGame.Capabilities.Drawable;
 import ZombieGame.Coordinates.ChunkIndex;
 import ZombieGame.Coordinates.Offset;
 import ZombieGame.Coordinates.ViewPos;
-import ZombieGame.Sprites.StaticSprite;
+import ZombieGame.DataStructures.IdAllocator;
 import ZombieGame.Systems.Debug.DebugCategory;
 import ZombieGame.Systems.Debug.DebugCategoryMask;
 import ZombieGame.Systems.Graphic.DrawStyle;
@@ -24,7 +24,10 @@ import ZombieGame.Systems.Graphic.GraphicLayer;
 import ZombieGame.Systems.Graphic.GraphicSystem;
 
 public class Chunk implements Drawable, DebuggableGeometry {
-    private final UUID uuid = UUID.randomUUID();
+    private static final IdAllocator IDS = new IdAllocator();
+
+    // Released when the chunk is evicted, a restored chunk gets a new id
+    private final long id = IDS.allocate();
     public static double TILE_SIZE = 0;
     public static final int CHUNK_SIZE = 15;
     public static final int DATA_SIZE = (CHUNK_SIZE / 3) * 2 + 1;
@@ -38,11 +41,18 @@ public class Chunk implements Drawable, DebuggableGeometry {
      */
     public static final int CHUNK_GENERATING = 2;
     /**
-     * Additional chunks around the visible viewport to keep the entities (with LifeComponent). Outside entities (with LifeComponent) will despawn
+     * Additional chunks around the visible viewport to keep the entities (with LifeComponent or LifetimeComponent). Outside entities (with LifeComponent or LifetimeComponent) will despawn
      */
     public static final int CHUNK_DESPAWN = 5;
+    /**
+     * Additional chunks around the visible viewport to keep in memory. Outside chunks are written into the region files with their static entities
+     */
+    public static final int CHUNK_PERSIST = 8;
 
     private final TileType[][] tiles;
+    // Chunks without tile data are baked with the missing texture
+    private final boolean blank;
+    // Only baked while the chunk is loaded or kept warm by the world, see bake() and releaseBakedImage()
     private BufferedImage bakedImage;
     private int bakedWidth;
     private int bakedHeight;
@@ -68,6 +78,7 @@ public class Chunk implements Drawable, DebuggableGeometry {
         this.world = world;
         this.index = index;
         this.tiles = tiles;
+        this.blank = false;
 
         if (tiles == null || tiles.length != DATA_SIZE) {
             throw new IllegalArgumentException("tiles must have chunk size + 1 numbers of rows");
@@ -101,74 +112,114 @@ public class Chunk implements Drawable, DebuggableGeometry {
                 this.tiles[tileY + 2][tileX + 2] = cleanTiles[2][2];
             }
         }
+    }
 
-        StaticSprite[][] sprites = new StaticSprite[CHUNK_SIZE][CHUNK_SIZE];
-
-        for (int spriteY = 0; spriteY < CHUNK_SIZE; spriteY += 3) {
-            int tileY = spriteY / 3 * 2;
-            for (int spriteX = 0; spriteX < CHUNK_SIZE; spriteX += 3) {
-                int tileX = spriteX / 3 * 2;
-
-                StaticSprite[][] temp = TileType.ClusterToSprites(
-                        this.tiles[tileY + 0][tileX], this.tiles[tileY + 0][tileX + 1], this.tiles[tileY + 0][tileX + 2],
-                        this.tiles[tileY + 1][tileX], this.tiles[tileY + 1][tileX + 1], this.tiles[tileY + 1][tileX + 2],
-                        this.tiles[tileY + 2][tileX], this.tiles[tileY + 2][tileX + 1], this.tiles[tileY + 2][tileX + 2]);
+    public Chunk(World world, ChunkIndex index) {
+        this.world = world;
+        this.index = index;
 
-                sprites[spriteY + 0][spriteX + 0] = temp[0][0];
-                sprites[spriteY + 0][spriteX + 1] = temp[0][1];
-                sprites[spriteY + 0][spriteX + 2] = temp[0][2];
+        this.tiles = new TileType[DATA_SIZE][DATA_SIZE];
+        this.blank = true;
+    }
 
-                sprites[spriteY + 1][spriteX + 0] = temp[1][0];
-                sprites[spriteY + 1][spriteX + 1] = temp[1][1];
-                sprites[spriteY + 1][spriteX + 2] = temp[1][2];
+    /**
+     * @param tiles The edges and corner types of the tiles to which the restrictions are already applied
+     */
+    private Chunk(World world, ChunkIndex index, TileType[][] tiles, boolean blank) {
+        this.world = world;
+        this.index = index;
+        this.tiles = tiles;
+        this.blank = blank;
+    }
 
-                sprites[spriteY + 2][spriteX + 0] = temp[2][0];
-                sprites[spriteY + 2][spriteX + 1] = temp[2][1];
-                sprites[spriteY + 2][spriteX + 2] = temp[2][2];
+    /**
+     * Create a chunk again from the tiles of a stored chunk.
+     * 
+     * @param tiles The tiles returned by {@link #getTiles()} or {@code null} for a blank chunk
+     */
+    static Chunk restore(World world, ChunkIndex index, TileType[][] tiles) {
+        if (tiles == null) {
+            return new Chunk(world, index);
+        }
+        return new Chunk(world, index, tiles, false);
+    }
 
-            }
+    /**
+     * Bake the sprites of the tiles into one image, if the chunk is not baked yet.
+     * 
+     * @param reuse A released image of another chunk which could be drawn over or {@code null} to allocate a new one
+     * @return {@code true} if the chunk was baked with this call
+     */
+    public boolean bake(BufferedImage reuse) {
+        if (this.bakedImage != null) {
+            return false;
         }
+        this.bakeChunk(reuse);
+        return true;
+    }
 
-        this.bakeChunk(sprites);
+    /**
+     * Release the baked image, only the tile data is kept. The chunk has to be baked again before it is drawn.
+     * 
+     * @return The released image so it could be reused or {@code null} if the chunk was not baked
+     */
+    public BufferedImage releaseBakedImage() {
+        BufferedImage image = this.bakedImage;
+        this.bakedImage = null;
+        return image;
     }
 
-    public Chunk(World world, ChunkIndex index) {
-        this.world = world;
-        this.index = index;
+    public boolean isBaked() {
+        return this.bakedImage != null;
+    }
 
-        this.tiles = new TileType[DATA_SIZE][DATA_SIZE];
-        StaticSprite[][] sprites = new StaticSprite[CHUNK_SIZE][CHUNK_SIZE];
-        for (int y = 0; y < CHUNK_SIZE; y++) {
-            for (int x = 0; x < CHUNK_SIZE; x++) {
-                sprites[y][x] = new StaticSprite();
-            }
+    /**
+     * @return The size of the baked image in bytes or 0 if the chunk is not baked
+     */
+    public long getBakedBytes() {
+        if (this.bakedImage == null) {
+            return 0;
         }
-
-        this.bakeChunk(sprites);
+        return (long) this.bakedWidth * this.bakedHeight * 4;
     }
 
-    private void bakeChunk(StaticSprite[][] sprites) {
-        this.tileDrawWidth = (int) sprites[0][0].getDrawWidth();
-        this.tileDrawHeight = (int) sprites[0][0].getDrawHeight();
+    private void bakeChunk(BufferedImage reuse) {
+        TileSpriteTable table = TileSpriteTable.getInstance();
+        this.tileDrawWidth = table.getTileWidth();
+        this.tileDrawHeight = table.getTileHeight();
 
         this.bakedWidth = this.tileDrawWidth * CHUNK_SIZE;
         this.bakedHeight = this.tileDrawHeight * CHUNK_SIZE;
 
-        this.bakedImage = new BufferedImage(this.bakedWidth, this.bakedHeight, BufferedImage.TYPE_INT_ARGB);
+        // Every pixel is drawn over by an opaque tile, so a reused image needs no clearing
+        if (reuse != null && reuse.getWidth() == this.bakedWidth && reuse.getHeight() == this.bakedHeight) {
+            this.bakedImage = reuse;
+        } else {
+            this.bakedImage = GraphicSystem.createCompatibleImage(this.bakedWidth, this.bakedHeight, Transparency.OPAQUE);
+        }
         Graphics2D graphics = this.bakedImage.createGraphics();
 
-        for (int y = 0; y < sprites.length; y++) {
-            StaticSprite[] spritesRows = sprites[y];
-            for (int x = 0; x < sprites.length; x++) {
-                StaticSprite sprite = spritesRows[x];
-                int drawWidth = (int) sprite.getDrawWidth();
-                int drawHeight = (int) sprite.getDrawHeight();
-                int columnIndex = (int) sprite.getColumnIndex();
-                int rowIndex = (int) sprite.getRowIndex();
-                int spriteWidth = (int) sprite.getTileWidth();
-                int spriteHeight = (int) sprite.getTileHeight();
-
-                graphics.drawImage(sprite.getSprite(), (x * drawWidth), (y * drawHeight), ((x + 1) * drawWidth), ((y + 1) * drawHeight), (columnIndex * spriteWidth), (rowIndex * spriteHeight), ((columnIndex + 1) * spriteWidth), ((rowIndex + 1) * spriteHeight), null);
+        for (int spriteY = 0; spriteY < CHUNK_SIZE; spriteY += 3) {
+            int tileY = spriteY / 3 * 2;
+            for (int spriteX = 0; spriteX < CHUNK_SIZE; spriteX += 3) {
+                int tileX = spriteX / 3 * 2;
+
+                BufferedImage[] cluster = null;
+                if (!this.blank) {
+                    int mask = TileType.calcBitMask(
+                            this.tiles[tileY + 0][tileX], this.tiles[tileY + 0][tileX + 1], this.tiles[tileY + 0][tileX + 2],
+                            this.tiles[tileY + 1][tileX], this.tiles[tileY + 1][tileX + 1], this.tiles[tileY + 1][tileX + 2],
+                            this.tiles[tileY + 2][tileX], this.tiles[tileY + 2][tileX + 1], this.tiles[tileY + 2][tileX + 2]);
+                    cluster = table.getCluster(mask);
+                    if (cluster == null) {
+                        System.err.println(String.format("Failed tile selection for %d in chunk %s", mask, this.index.toString()));
+                    }
+                }
+
+                for (int i = 0; i < 9; i++) {
+                    BufferedImage tile = cluster != null ? cluster[i] : table.getMissingTile();
+                    graphics.drawImage(tile, (spriteX + i % 3) * this.tileDrawWidth, (spriteY + i / 3) * this.tileDrawHeight, null);
+                }
             }
         }
 
@@ -176,6 +227,7 @@ public class Chunk implements Drawable, DebuggableGeometry {
     }
 
     public void exportBakedChunk(String folderPath) {
+        this.bake(null);
         if (this.bakedImage == null) {
             System.err.println("Failed to export baked chunk as image with: Image does not exist");
             return;
@@ -198,9 +250,12 @@ public class Chunk implements Drawable, DebuggableGeometry {
 
     @Override
     public void draw() {
-        ViewPos viewPos = this.index.toWorldPos().toViewPos(world);
+        if (this.bakedImage == null) {
+            return;
+        }
+        ViewPos viewPos = this.index.toWorldPos().toRenderViewPos(world);
 
-        GraphicSystem.getInstance().drawImage(this.bakedImage, viewPos, bakedWidth, bakedHeight);
+        GraphicSystem.getInstance().drawBackgroundImage(this.bakedImage, viewPos, bakedWidth, bakedHeight);
     }
 
     @Override
@@ -215,7 +270,7 @@ public class Chunk implements Drawable, DebuggableGeometry {
 
     @Override
     public void drawDebug() {
-        ViewPos viewPos = this.index.toWorldPos().toViewPos(world);
+        ViewPos viewPos = this.index.toWorldPos().toRenderViewPos(world);
 
         for (int y = 0; y < spritesCountY(); y++) {
             for (int x = 0; x < spritesCountX(); x++) {
@@ -250,6 +305,34 @@ public class Chunk implements Drawable, DebuggableGeometry {
         return this.index;
     }
 
+    /**
+     * @return The id of the chunk, which is unique among all chunks in memory
+     */
+    public final long getId() {
+        return this.id;
+    }
+
+    /**
+     * Release the id of the chunk once it was evicted from the world, so its index could be reused.
+     */
+    final void release() {
+        IDS.release(this.id);
+    }
+
+    /**
+     * @return The edges and corner types of the tiles, the array is not copied
+     */
+    TileType[][] getTiles() {
+        return this.tiles;
+    }
+
+    /**
+     * @return {@code true} if the chunk has no tile data and is drawn with the missing texture
+     */
+    boolean isBlank() {
+        return this.blank;
+    }
+
     public int tilesCountX() {
         return this.tiles[0].length;
     }
@@ -491,11 +574,11 @@ public class Chunk implements Drawable, DebuggableGeometry {
         }
 
         Chunk chunk = (Chunk) object;
-        return this.uuid.equals(chunk.uuid);
+        return this.id == chunk.id;
     }
 
     @Override
     public int hashCode() {
-        return uuid.hashCode();
+        return Long.hashCode(this.id);
     }
 }
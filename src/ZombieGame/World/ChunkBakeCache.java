@@ -0,0 +1,134 @@
+package ZombieGame.World;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import ZombieGame.Coordinates.ChunkIndex;
+import ZombieGame.Systems.Graphic.GraphicSystem;
+
+/**
+ * Keeps the baked images of the chunks bounded. Loaded chunks are always baked.
+ * Unloaded chunks stay baked in least recently used order until the budget is exceeded, then their image is released into a small pool and reused by the next chunk which is baked.
+ */
+final class ChunkBakeCache {
+    /**
+     * Maximum number of unloaded chunks which are kept baked
+     */
+    static final int MAX_WARM_CHUNKS = 16;
+    /**
+     * Maximum number of released images which are kept for reuse
+     */
+    private static final int MAX_POOLED_IMAGES = 4;
+
+    // Unloaded chunks which are still baked, the eldest first
+    private final LinkedHashMap<ChunkIndex, Chunk> warm = new LinkedHashMap<>();
+    private final ArrayDeque<BufferedImage> pool = new ArrayDeque<>();
+    private final int maxWarmChunks;
+    private long bakedBytes = 0;
+    private int bakeCount = 0;
+
+    ChunkBakeCache() {
+        this(MAX_WARM_CHUNKS);
+    }
+
+    /**
+     * @param maxWarmChunks Maximum number of unloaded chunks which are kept baked, 0 releases the image on unload
+     */
+    ChunkBakeCache(int maxWarmChunks) {
+        this.maxWarmChunks = maxWarmChunks;
+    }
+
+    /**
+     * Bake the chunk when it gets loaded, a warm chunk is reused without baking.
+     *
+     * @param chunk The chunk which is loaded
+     */
+    void acquire(Chunk chunk) {
+        if (this.warm.remove(chunk.getIndex()) != null) {
+            return;
+        }
+
+        if (!chunk.isBaked() && chunk.bake(this.pool.poll())) {
+            this.bakeCount++;
+        }
+        this.bakedBytes += chunk.getBakedBytes();
+    }
+
+    /**
+     * Keep a chunk which was baked outside of the cache warm, e.g. a chunk baked while it was generated.
+     *
+     * @param chunk The chunk which is not loaded
+     */
+    void adopt(Chunk chunk) {
+        if (!chunk.isBaked() || this.warm.containsKey(chunk.getIndex())) {
+            return;
+        }
+        this.bakedBytes += chunk.getBakedBytes();
+        this.bakeCount++;
+        this.retire(chunk);
+    }
+
+    /**
+     * Keep the chunk warm when it gets unloaded, the least recently unloaded chunks are released if the budget is exceeded.
+     *
+     * @param chunk The chunk which is unloaded
+     */
+    void retire(Chunk chunk) {
+        if (!chunk.isBaked()) {
+            return;
+        }
+        this.warm.put(chunk.getIndex(), chunk);
+
+        Iterator<Chunk> eldest = this.warm.values().iterator();
+        while (this.warm.size() > this.maxWarmChunks) {
+            this.release(eldest.next());
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Release the image of the chunk when it is removed from the world.
+     *
+     * @param chunk The chunk which is unloaded
+     */
+    void evict(Chunk chunk) {
+        if (this.warm.remove(chunk.getIndex()) != null) {
+            this.release(chunk);
+        }
+    }
+
+    private void release(Chunk chunk) {
+        this.bakedBytes -= chunk.getBakedBytes();
+        BufferedImage image = chunk.releaseBakedImage();
+        if (image != null) {
+            // The image is drawn over by the next chunk
+            GraphicSystem.getInstance().releaseAcceleratedImage(image);
+        }
+        if (image != null && this.pool.size() < MAX_POOLED_IMAGES) {
+            this.pool.push(image);
+        }
+    }
+
+    /**
+     * @return The number of unloaded chunks which are kept baked
+     */
+    int getWarmCount() {
+        return this.warm.size();
+    }
+
+    /**
+     * @return The size of all baked images in bytes, including loaded chunks
+     */
+    long getBakedBytes() {
+        return this.bakedBytes;
+    }
+
+    /**
+     * @return The number of chunks baked so far
+     */
+    int getBakeCount() {
+        return this.bakeCount;
+    }
+}
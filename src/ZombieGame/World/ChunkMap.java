@@ -0,0 +1,227 @@
+package ZombieGame.World;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import ZombieGame.Coordinates.ChunkIndex;
+
+/**
+ * Open addressing hash map from chunk indices to values.
+ * The coordinates of the chunk are packed as {@code (x << 32) | y} into a long, so looking up a chunk neither hashes a record nor follows a map entry.
+ * The values must not be {@code null}, an empty slot is marked by a missing value.
+ *
+ * @param <V> The type of the values
+ */
+final class ChunkMap<V> {
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;
+
+    ChunkMap() {
+        this(64);
+    }
+
+    /**
+     * @param capacity The initial number of chunks which fit without growing
+     */
+    ChunkMap(int capacity) {
+        int tableSize = Integer.highestOneBit(Math.max(8, capacity * 2) - 1) << 1;
+        this.keys = new long[tableSize];
+        this.values = new Object[tableSize];
+        this.mask = tableSize - 1;
+    }
+
+    /**
+     * @return The key of the chunk
+     */
+    static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    static long key(ChunkIndex index) {
+        return key(index.x(), index.y());
+    }
+
+    /**
+     * @return The chunk index of the key
+     */
+    static ChunkIndex indexOf(long key) {
+        return new ChunkIndex((int) (key >>> 32), (int) key);
+    }
+
+    /**
+     * @param index The index of the chunk
+     * @return The value of the chunk or {@code null} if not contained
+     */
+    V get(ChunkIndex index) {
+        return this.get(key(index));
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        return (V) this.values[this.slotOf(key)];
+    }
+
+    boolean containsKey(ChunkIndex index) {
+        return this.values[this.slotOf(key(index))] != null;
+    }
+
+    /**
+     * Add the value or replace the value if the chunk is already contained.
+     *
+     * @param index The index of the chunk
+     * @param value The value of the chunk
+     * @return The previous value of the chunk or {@code null} if it was not contained
+     */
+    V put(ChunkIndex index, V value) {
+        return this.put(key(index), value, true);
+    }
+
+    /**
+     * Add the value only if the chunk is not already contained.
+     *
+     * @param index The index of the chunk
+     * @param value The value of the chunk
+     * @return The existing value of the chunk or {@code null} if the value was added
+     */
+    V putIfAbsent(ChunkIndex index, V value) {
+        return this.put(key(index), value, false);
+    }
+
+    /**
+     * @param index The index of the chunk
+     * @param factory Creates the value if the chunk is not contained
+     * @return The existing or the created value of the chunk
+     */
+    V computeIfAbsent(ChunkIndex index, Function<ChunkIndex, V> factory) {
+        long key = key(index);
+        V value = this.get(key);
+        if (value == null) {
+            value = factory.apply(index);
+            this.put(key, value, true);
+        }
+        return value;
+    }
+
+    /**
+     * @param index The index of the chunk
+     * @return The removed value of the chunk or {@code null} if it was not contained
+     */
+    @SuppressWarnings("unchecked")
+    V remove(ChunkIndex index) {
+        int i = this.slotOf(key(index));
+        V value = (V) this.values[i];
+        if (value == null) {
+            return null;
+        }
+
+        this.values[i] = null;
+        this.size--;
+
+        // Shift the following entries of the probe sequence back, so no lookup stops early at the freed slot
+        int j = i;
+        while (true) {
+            j = (j + 1) & this.mask;
+            if (this.values[j] == null) {
+                break;
+            }
+            int home = hash(this.keys[j]) & this.mask;
+            // Only move the entry if the freed slot lies between its home slot and its current slot
+            if (((j - home) & this.mask) >= ((j - i) & this.mask)) {
+                this.keys[i] = this.keys[j];
+                this.values[i] = this.values[j];
+                this.values[j] = null;
+                i = j;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Remove all chunks but keep the allocated table.
+     */
+    void clear() {
+        if (this.size > 0) {
+            Arrays.fill(this.values, null);
+            this.size = 0;
+        }
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * @return The size of the table, the entries can be iterated with {@link #isUsed(int)}, {@link #keyAt(int)} and {@link #valueAt(int)}
+     */
+    int capacity() {
+        return this.values.length;
+    }
+
+    boolean isUsed(int slot) {
+        return this.values[slot] != null;
+    }
+
+    long keyAt(int slot) {
+        return this.keys[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    V valueAt(int slot) {
+        return (V) this.values[slot];
+    }
+
+    private V put(long key, V value, boolean replace) {
+        if (value == null) {
+            throw new IllegalArgumentException("The value of a chunk must not be null");
+        }
+
+        // Keep the load factor at most 0.5
+        if ((this.size + 1) * 2 > this.values.length) {
+            this.grow();
+        }
+
+        int i = this.slotOf(key);
+        @SuppressWarnings("unchecked")
+        V previous = (V) this.values[i];
+        if (previous == null) {
+            this.keys[i] = key;
+            this.values[i] = value;
+            this.size++;
+        } else if (replace) {
+            this.values[i] = value;
+        }
+        return previous;
+    }
+
+    private int slotOf(long key) {
+        int i = hash(key) & this.mask;
+        while (this.values[i] != null && this.keys[i] != key) {
+            i = (i + 1) & this.mask;
+        }
+        return i;
+    }
+
+    private void grow() {
+        long[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+
+        this.keys = new long[oldKeys.length * 2];
+        this.values = new Object[oldKeys.length * 2];
+        this.mask = this.keys.length - 1;
+
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldValues[j] != null) {
+                int i = this.slotOf(oldKeys[j]);
+                this.keys[i] = oldKeys[j];
+                this.values[i] = oldValues[j];
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,18 @@
+package ZombieGame.World;
+
+import java.util.List;
+
+import ZombieGame.Entities.Entity;
+
+/**
+ * The result of generating a chunk, which is committed to the world on the game thread.
+ * The chunk is not registered anywhere yet and the entities are only placed against each other.
+ *
+ * @param chunk The generated chunk, baked if it was in loading range when its generation started
+ * @param entities The entities which should be spawned in the chunk
+ */
+public record ChunkPayload(Chunk chunk, List<Entity> entities) {
+    public ChunkPayload {
+        entities = List.copyOf(entities);
+    }
+}
@@ -0,0 +1,63 @@
+package ZombieGame.World;
+
+/**
+ * This should not be changed this table is derived from the blob tile set. if the textures should be changed this could be done in {@link TilePos} by changing the column and row values
+ * 
+ * @see https://www.boristhebrave.com/permanent/24/06/cr31/stagecast/wang/blob.html
+ */
+class ClusterTileLookup {
+    public static final TileCluster[] TABLE = new TileCluster[(int) Math.pow(TileType.values().length, TileCluster.size())];
+
+    static {
+        TABLE[0] = new TileCluster(TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL);
+        TABLE[256 + 1] = new TileCluster(TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_TOP_RIGHT_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_LEFT_DIRT);
+        TABLE[256 + 4] = new TileCluster(TilePos.GRASS_BOTTOM_RIGHT_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_RIGHT_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT);
+        TABLE[256 + 16] = new TileCluster(TilePos.GRASS_BOTTOM_RIGHT_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_LEFT_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT);
+        TABLE[256 + 64] = new TileCluster(TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_LEFT_DIRT);
+        TABLE[256 + 5] = new TileCluster(TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_RIGHT_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT);
+        TABLE[256 + 20] = new TileCluster(TilePos.GRASS_BOTTOM_RIGHT_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
+        TABLE[256 + 80] = new TileCluster(TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT);
+        TABLE[256 + 65] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_LEFT_DIRT);
+        TABLE[256 + 7] = new TileCluster(TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_RIGHT_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT);
+        TABLE[256 + 28] = new TileCluster(TilePos.GRASS_BOTTOM_RIGHT_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
+        TABLE[256 + 112] = new TileCluster(TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT);
+        TABLE[256 + 193] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_LEFT_DIRT);
+        TABLE[256 + 17] = new TileCluster(TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT);
+        TABLE[256 + 68] = new TileCluster(TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT);
+        TABLE[256 + 21] = new TileCluster(TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
+        TABLE[256 + 84] = new TileCluster(TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
+        TABLE[256 + 81] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT);
+        TABLE[256 + 69] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT);
+        TABLE[256 + 23] = new TileCluster(TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
+        TABLE[256 + 92] = new TileCluster(TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
+        TABLE[256 + 113] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT);
+        TABLE[256 + 197] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT);
+        TABLE[256 + 29] = new TileCluster(TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
+        TABLE[256 + 116] = new TileCluster(TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
+        TABLE[256 + 209] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT);
+        TABLE[256 + 71] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT);
+        TABLE[256 + 31] = new TileCluster(TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
+        TABLE[256 + 124] = new TileCluster(TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
+        TABLE[256 + 241] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT);
+        TABLE[256 + 199] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT);
+        TABLE[256 + 85] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
+        TABLE[256 + 87] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
+        TABLE[256 + 93] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
+        TABLE[256 + 117] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
+        TABLE[256 + 213] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
+        TABLE[256 + 95] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
+        TABLE[256 + 125] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
+        TABLE[256 + 245] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
+        TABLE[256 + 215] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
+        TABLE[256 + 119] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
+        TABLE[256 + 221] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
+        TABLE[256 + 127] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
+        TABLE[256 + 253] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
+        TABLE[256 + 247] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
+        TABLE[256 + 223] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
+        TABLE[256 + 255] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
+
+        // Additional
+        TABLE[256] = new TileCluster(TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.DIRT_SURROUNDED, TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL);
+    }
+}
@@ -0,0 +1,86 @@
+package ZombieGame.World;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.function.Supplier;
+
+import ZombieGame.Components.ComponentType;
+import ZombieGame.Entities.Entity;
+
+/**
+ * Live index from the type of a component or capability to the entities having at least one component of it.
+ * A type is indexed on its first query, after that the index is kept up to date when entities are added or removed, so a query only costs the number of matches.
+ *
+ * @param <E> The type of the indexed entities
+ */
+final class ComponentIndex<E extends Entity> {
+    private final Supplier<Iterator<E>> entities;
+    // The indexed sets by the id of the type, null if the type was not queried yet
+    private final ArrayList<EntitySet<E>> setsById;
+    private final ArrayList<EntitySet<E>> sets;
+    private final ArrayList<Class<?>> types;
+
+    /**
+     * @param entities Creates an iterator over all entities which are currently added, used to fill the set of a type on its first query
+     */
+    ComponentIndex(Supplier<Iterator<E>> entities) {
+        this.entities = entities;
+        this.setsById = new ArrayList<>();
+        this.sets = new ArrayList<>();
+        this.types = new ArrayList<>();
+    }
+
+    /**
+     * @param type The class of component or the interface of capability
+     * @return The live set of the entities having a component of the type
+     */
+    EntitySet<E> get(Class<?> type) {
+        int id = ComponentType.idOf(type);
+        while (this.setsById.size() <= id) {
+            this.setsById.add(null);
+        }
+
+        EntitySet<E> set = this.setsById.get(id);
+        if (set == null) {
+            set = new EntitySet<>();
+            Iterator<E> it = this.entities.get();
+            while (it.hasNext()) {
+                E entity = it.next();
+                if (entity.hasComponent(type)) {
+                    set.add(entity);
+                }
+            }
+            this.setsById.set(id, set);
+            this.sets.add(set);
+            this.types.add(type);
+        }
+        return set;
+    }
+
+    /**
+     * @param entity The entity which was added
+     */
+    void add(E entity) {
+        for (int i = 0; i < this.sets.size(); i++) {
+            if (entity.hasComponent(this.types.get(i))) {
+                this.sets.get(i).add(entity);
+            }
+        }
+    }
+
+    /**
+     * @param entity The entity which was removed
+     */
+    void remove(E entity) {
+        for (int i = 0; i < this.sets.size(); i++) {
+            this.sets.get(i).remove(entity);
+        }
+    }
+
+    /**
+     * @return The number of indexed types
+     */
+    int size() {
+        return this.sets.size();
+    }
+}
@@ -0,0 +1,36 @@
+package ZombieGame.World;
+
+import java.util.Optional;
+
+import ZombieGame.Entities.Entity;
+
+/**
+ * Handle to the first entity of a class in the world, which could be kept by components across frames.
+ * The entity is cached and only looked up again once it was removed from the world, which releases its id.
+ *
+ * @param <T> The type of the entity
+ */
+public final class EntityHandle<T extends Entity> {
+    private final World world;
+    private final Class<T> type;
+    private T entity;
+
+    /**
+     * @param world The world the entity is in
+     * @param type The class of the entity
+     */
+    EntityHandle(World world, Class<T> type) {
+        this.world = world;
+        this.type = type;
+    }
+
+    /**
+     * @return The entity or empty if there is no entity of the class in the world
+     */
+    public Optional<T> get() {
+        if (this.entity == null || !this.entity.isIdValid()) {
+            this.entity = this.world.getEntity(this.type).orElse(null);
+        }
+        return Optional.ofNullable(this.entity);
+    }
+}
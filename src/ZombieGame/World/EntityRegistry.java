@@ -0,0 +1,96 @@
+package ZombieGame.World;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+
+import ZombieGame.EntityType;
+import ZombieGame.Entities.Entity;
+
+/**
+ * Registry of the entities added to the world by their class and their {@link EntityType}.
+ * A class is indexed on its first query with all matching entities, inherited classes included. After that it is kept up to date when entities are added or removed.
+ */
+final class EntityRegistry {
+    private final EntitySet<Entity> all;
+    private final HashMap<Class<?>, EntitySet<Entity>> byClass;
+    private final EnumMap<EntityType, EntitySet<Entity>> byType;
+
+    EntityRegistry() {
+        this.all = new EntitySet<>();
+        this.byClass = new HashMap<>();
+        this.byType = new EnumMap<>(EntityType.class);
+        for (EntityType type : EntityType.values()) {
+            this.byType.put(type, new EntitySet<>());
+        }
+    }
+
+    /**
+     * @param entity The entity which was added to the world
+     */
+    void add(Entity entity) {
+        if (!this.all.add(entity)) {
+            return;
+        }
+
+        this.byType.get(entity.getType()).add(entity);
+        for (var entry : this.byClass.entrySet()) {
+            if (entry.getKey().isInstance(entity)) {
+                entry.getValue().add(entity);
+            }
+        }
+    }
+
+    /**
+     * @param entity The entity which was removed from the world
+     */
+    void remove(Entity entity) {
+        if (!this.all.remove(entity)) {
+            return;
+        }
+
+        this.byType.get(entity.getType()).remove(entity);
+        for (EntitySet<Entity> set : this.byClass.values()) {
+            set.remove(entity);
+        }
+    }
+
+    /**
+     * @return {@code true} if the entity is added to the world
+     */
+    boolean contains(Entity entity) {
+        return this.all.contains(entity);
+    }
+
+    /**
+     * @param type The class of the entities
+     * @return The live set of the entities which are an instance of the class
+     */
+    EntitySet<Entity> get(Class<? extends Entity> type) {
+        EntitySet<Entity> set = this.byClass.get(type);
+        if (set == null) {
+            set = new EntitySet<>();
+            for (int i = 0; i < this.all.size(); i++) {
+                if (type.isInstance(this.all.get(i))) {
+                    set.add(this.all.get(i));
+                }
+            }
+            this.byClass.put(type, set);
+        }
+        return set;
+    }
+
+    /**
+     * @param type The type of the entities
+     * @return The live set of the entities with the type
+     */
+    EntitySet<Entity> get(EntityType type) {
+        return this.byType.get(type);
+    }
+
+    /**
+     * @return The number of entities added to the world
+     */
+    int size() {
+        return this.all.size();
+    }
+}
@@ -0,0 +1,79 @@
+package ZombieGame.World;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+
+import ZombieGame.Entities.Entity;
+
+/**
+ * Set of entities with constant time add, remove and access by index. Removing moves the last entity to the index of the removed one.
+ */
+final class EntitySet<E extends Entity> extends AbstractCollection<E> {
+    private final ArrayList<E> entities;
+    private final HashMap<E, Integer> indices;
+    private final Collection<E> view;
+
+    EntitySet() {
+        this.entities = new ArrayList<>();
+        this.indices = new HashMap<>();
+        this.view = Collections.unmodifiableCollection(this);
+    }
+
+    @Override
+    public boolean add(E entity) {
+        if (this.indices.putIfAbsent(entity, this.entities.size()) != null) {
+            return false;
+        }
+        this.entities.add(entity);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object entity) {
+        Integer index = this.indices.remove(entity);
+        if (index == null) {
+            return false;
+        }
+
+        E last = this.entities.removeLast();
+        if (index < this.entities.size()) {
+            this.entities.set(index, last);
+            this.indices.put(last, index);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object entity) {
+        return this.indices.containsKey(entity);
+    }
+
+    /**
+     * @param index The index from 0 to {@link #size()} exclusive
+     * @return The entity at the index
+     */
+    E get(int index) {
+        return this.entities.get(index);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return this.entities.iterator();
+    }
+
+    @Override
+    public int size() {
+        return this.entities.size();
+    }
+
+    /**
+     * @return An unmodifiable view of the set, which is the same object on every call
+     */
+    Collection<E> view() {
+        return this.view;
+    }
+}
@@ -0,0 +1,56 @@
+package ZombieGame.World;
+
+import ZombieGame.Algorithms.ValueNoise;
+
+/**
+ * Terrain from seeded value noise, the noise is mapped to the tiles by the weights of {@link TileType#select(double)}.
+ * <p>
+ * A corner of the tile clusters is only dirt if the four tiles next to it are dirt. This is what {@link TileType#applyRestrictions} keeps for every cluster sharing the corner,
+ * so the clusters of neighbouring chunks agree at the chunk borders.
+ */
+public final class NoiseTerrain implements TerrainSource {
+    // Size of the largest dirt areas in tile data
+    private static final double FEATURE_SIZE = 6;
+    private static final int OCTAVES = 3;
+    private static final double PERSISTENCE = 0.5;
+    // The sum of the octaves is mostly around the middle, stretch it so the weights of the tiles apply
+    private static final double CONTRAST = 1.5;
+
+    private final ValueNoise noise;
+
+    /**
+     * @param seed The seed of the terrain
+     */
+    public NoiseTerrain(long seed) {
+        this.noise = new ValueNoise(seed, OCTAVES, PERSISTENCE);
+    }
+
+    /**
+     * @param x The x position in the tile data of the world
+     * @param y The y position in the tile data of the world
+     * @return The value of the terrain at the position in [0,1]
+     */
+    public double getValue(int x, int y) {
+        double value = this.noise.sample(x / FEATURE_SIZE, y / FEATURE_SIZE);
+        return Math.clamp((value - 0.5) * CONTRAST + 0.5, 0.0, 1.0);
+    }
+
+    @Override
+    public TileType getTile(int x, int y) {
+        TileType tile = this.selectTile(x, y);
+
+        // Corners of the clusters are at even positions in both directions
+        if (tile == TileType.DIRT && (x & 1) == 0 && (y & 1) == 0) {
+            boolean surrounded = this.selectTile(x, y - 1) == TileType.DIRT && this.selectTile(x + 1, y) == TileType.DIRT
+                    && this.selectTile(x, y + 1) == TileType.DIRT && this.selectTile(x - 1, y) == TileType.DIRT;
+            if (!surrounded) {
+                return TileType.GRASS;
+            }
+        }
+        return tile;
+    }
+
+    private TileType selectTile(int x, int y) {
+        return TileType.select(this.getValue(x, y));
+    }
+}
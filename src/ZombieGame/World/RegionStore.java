@@ -0,0 +1,223 @@
+package ZombieGame.World;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import ZombieGame.Coordinates.ChunkIndex;
+import ZombieGame.Coordinates.WorldPos;
+import ZombieGame.Entities.Entity;
+
+/**
+ * Persists evicted chunks with their static entities into region files of {@value #REGION_SIZE}×{@value #REGION_SIZE} chunks.
+ * Every chunk has a slot of fixed size in the file of its region, so the files are memory mapped once and a chunk is read or written at a computed offset.
+ * <p>
+ * Layout of a slot: int state, one byte per tile with the ordinal of its {@link TileType}, short number of entities and per entity the byte ordinal of its
+ * {@link StoredEntityType}, double x, double y and int payload.
+ * <p>
+ * The files are only valid for the running game, so they are written into a temporary directory which is deleted on exit.
+ */
+final class RegionStore {
+    static final int REGION_SIZE = 32;
+    /**
+     * Maximum number of entities a chunk could have to be stored
+     */
+    static final int MAX_ENTITIES = 128;
+
+    private static final int EMPTY = 0;
+    private static final int STORED = 1;
+    private static final byte NO_TILE = -1;
+    private static final TileType[] TILE_TYPES = TileType.values();
+
+    private static final int TILE_BYTES = Chunk.DATA_SIZE * Chunk.DATA_SIZE;
+    private static final int ENTITY_BYTES = Byte.BYTES + Double.BYTES + Double.BYTES + Integer.BYTES;
+    private static final int SLOT_BYTES = 4096;
+    private static final int REGION_BYTES = REGION_SIZE * REGION_SIZE * SLOT_BYTES;
+
+    static {
+        if (Integer.BYTES + TILE_BYTES + Short.BYTES + MAX_ENTITIES * ENTITY_BYTES > SLOT_BYTES) {
+            throw new IllegalStateException("Chunk does not fit into the slot of a region file");
+        }
+    }
+
+    /**
+     * A static entity read from a region file
+     */
+    record StoredEntity(StoredEntityType type, WorldPos pos, int payload) {
+        Entity create() {
+            return this.type.create(this.pos, this.payload);
+        }
+    }
+
+    /**
+     * A chunk read from a region file, the tiles are {@code null} for a blank chunk
+     */
+    record StoredChunk(TileType[][] tiles, List<StoredEntity> entities) {
+    }
+
+    // Mapped region files by the index of the region, a region is only mapped once a chunk was written into it
+    private final ChunkMap<MappedByteBuffer> regions = new ChunkMap<>();
+    private Path directory;
+    private boolean failed = false;
+    private int storedCount = 0;
+
+    /**
+     * @param index The index of the chunk
+     * @return {@code true} if the chunk is stored
+     */
+    boolean contains(ChunkIndex index) {
+        MappedByteBuffer region = this.regions.get(regionOf(index));
+        return region != null && region.getInt(slotOf(index)) == STORED;
+    }
+
+    /**
+     * Write the chunk and its entities into the region file.
+     *
+     * @param index The index of the chunk
+     * @param tiles The tiles of the chunk or {@code null} for a blank chunk
+     * @param entities The entities of the chunk, all of them have to be of a {@link StoredEntityType}
+     * @return {@code true} if the chunk was written, {@code false} if it has entities which could not be stored or the file is not accessible
+     */
+    boolean write(ChunkIndex index, TileType[][] tiles, Collection<Entity> entities) {
+        if (entities.size() > MAX_ENTITIES) {
+            return false;
+        }
+        for (Entity entity : entities) {
+            if (StoredEntityType.of(entity) == null) {
+                return false;
+            }
+        }
+
+        MappedByteBuffer region = this.mapRegion(regionOf(index));
+        if (region == null) {
+            return false;
+        }
+
+        int offset = slotOf(index) + Integer.BYTES;
+        for (int y = 0; y < Chunk.DATA_SIZE; y++) {
+            for (int x = 0; x < Chunk.DATA_SIZE; x++) {
+                TileType tile = tiles != null ? tiles[y][x] : null;
+                region.put(offset++, tile != null ? (byte) tile.ordinal() : NO_TILE);
+            }
+        }
+
+        region.putShort(offset, (short) entities.size());
+        offset += Short.BYTES;
+        for (Entity entity : entities) {
+            StoredEntityType type = StoredEntityType.of(entity);
+            WorldPos pos = entity.getPositionComponent().getWorldPos();
+            region.put(offset, (byte) type.ordinal());
+            region.putDouble(offset + 1, pos.x());
+            region.putDouble(offset + 9, pos.y());
+            region.putInt(offset + 17, type.payloadOf(entity));
+            offset += ENTITY_BYTES;
+        }
+
+        // Mark the slot as stored last, so a partly written slot is never read
+        region.putInt(slotOf(index), STORED);
+        this.storedCount++;
+        return true;
+    }
+
+    /**
+     * Read the chunk and remove it from the region file, the chunk is in memory again afterwards.
+     *
+     * @param index The index of the chunk
+     * @return The stored chunk or empty if the chunk is not stored
+     */
+    Optional<StoredChunk> take(ChunkIndex index) {
+        if (!this.contains(index)) {
+            return Optional.empty();
+        }
+        MappedByteBuffer region = this.regions.get(regionOf(index));
+
+        int offset = slotOf(index) + Integer.BYTES;
+        TileType[][] tiles = new TileType[Chunk.DATA_SIZE][Chunk.DATA_SIZE];
+        boolean blank = true;
+        for (int y = 0; y < Chunk.DATA_SIZE; y++) {
+            for (int x = 0; x < Chunk.DATA_SIZE; x++) {
+                byte tile = region.get(offset++);
+                if (tile != NO_TILE) {
+                    tiles[y][x] = TILE_TYPES[tile];
+                    blank = false;
+                }
+            }
+        }
+
+        int count = region.getShort(offset);
+        offset += Short.BYTES;
+        ArrayList<StoredEntity> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StoredEntityType type = StoredEntityType.fromOrdinal(region.get(offset));
+            if (type == null) {
+                System.err.println(String.format("Skipped unknown entity type in stored chunk %s", index.toString()));
+            } else {
+                entities.add(new StoredEntity(type, new WorldPos(region.getDouble(offset + 1), region.getDouble(offset + 9)), region.getInt(offset + 17)));
+            }
+            offset += ENTITY_BYTES;
+        }
+
+        region.putInt(slotOf(index), EMPTY);
+        this.storedCount--;
+        return Optional.of(new StoredChunk(blank ? null : tiles, entities));
+    }
+
+    /**
+     * @return The number of chunks which are stored
+     */
+    int size() {
+        return this.storedCount;
+    }
+
+    /**
+     * @return The number of region files which are mapped
+     */
+    int getRegionCount() {
+        return this.regions.size();
+    }
+
+    private MappedByteBuffer mapRegion(ChunkIndex region) {
+        MappedByteBuffer buffer = this.regions.get(region);
+        if (buffer != null || this.failed) {
+            return buffer;
+        }
+
+        try {
+            if (this.directory == null) {
+                this.directory = Files.createTempDirectory("zombie-regions");
+                this.directory.toFile().deleteOnExit();
+            }
+
+            Path file = this.directory.resolve(String.format("r.%d.%d.region", region.x(), region.y()));
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                // The mapping stays valid after the channel is closed, new files are sparse and read as empty slots
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, REGION_BYTES);
+            }
+            file.toFile().deleteOnExit();
+        } catch (IOException | UnsupportedOperationException e) {
+            System.err.println("Failed to map region file, chunks are kept in memory: " + e.getMessage());
+            this.failed = true;
+            return null;
+        }
+
+        this.regions.put(region, buffer);
+        return buffer;
+    }
+
+    private static ChunkIndex regionOf(ChunkIndex index) {
+        return new ChunkIndex(Math.floorDiv(index.x(), REGION_SIZE), Math.floorDiv(index.y(), REGION_SIZE));
+    }
+
+    private static int slotOf(ChunkIndex index) {
+        int localX = Math.floorMod(index.x(), REGION_SIZE);
+        int localY = Math.floorMod(index.y(), REGION_SIZE);
+        return (localY * REGION_SIZE + localX) * SLOT_BYTES;
+    }
+}
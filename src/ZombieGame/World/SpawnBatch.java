@@ -0,0 +1,125 @@
+package ZombieGame.World;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import ZombieGame.Components.PhysicsComponent;
+import ZombieGame.Coordinates.WorldPos;
+import ZombieGame.Entities.Entity;
+import ZombieGame.Systems.Physic.CollisionResponse;
+import ZombieGame.Systems.Physic.PhysicsSystem;
+
+/**
+ * Entities which are generated together, e.g. for a chunk, and spawned in one pass with {@link World#spawnEntities(SpawnBatch)}.
+ * The batch keeps the physics components of its entities in a uniform grid, so placement tests see the entities of the batch without registering them to the physics system first.
+ */
+public final class SpawnBatch {
+    private static final double CELL_SIZE = 64;
+
+    private final ArrayList<Entity> entities = new ArrayList<>();
+    private final HashMap<Long, ArrayList<PhysicsComponent>> cells = new HashMap<>();
+    private final boolean testWorld;
+
+    /**
+     * Batch whose placement tests consider the entities of the world and of the batch.
+     */
+    public SpawnBatch() {
+        this(true);
+    }
+
+    private SpawnBatch(boolean testWorld) {
+        this.testWorld = testWorld;
+    }
+
+    /**
+     * @return A batch whose placement tests only consider the entities of the batch, so it could be filled on a worker thread
+     */
+    public static SpawnBatch detached() {
+        return new SpawnBatch(false);
+    }
+
+    /**
+     * Check if the entity would have a blocking collision with an entity of the world or of the batch.
+     * A {@link #detached()} batch does not check the entities of the world.
+     *
+     * @param entity The entity which is not added to the world or the batch yet
+     * @return {@code true} if the place of the entity is occupied
+     */
+    public boolean isOccupied(Entity entity) {
+        if (this.testWorld && PhysicsSystem.getInstance().testCollision(entity)) {
+            return true;
+        }
+
+        for (PhysicsComponent component : entity.getComponents(PhysicsComponent.class)) {
+            WorldPos min = component.getBoundsMin();
+            WorldPos max = component.getBoundsMax();
+            for (int y = toCell(min.y()); y <= toCell(max.y()); y++) {
+                for (int x = toCell(min.x()); x <= toCell(max.x()); x++) {
+                    ArrayList<PhysicsComponent> cell = this.cells.get(key(x, y));
+                    if (cell == null) {
+                        continue;
+                    }
+
+                    for (PhysicsComponent other : cell) {
+                        if (component.checkCollision(other) == CollisionResponse.Block) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Add the entity to the batch, it is spawned together with the other entities of the batch.
+     *
+     * @param entity The entity to add
+     */
+    public void add(Entity entity) {
+        this.entities.add(entity);
+
+        for (PhysicsComponent component : entity.getComponents(PhysicsComponent.class)) {
+            WorldPos min = component.getBoundsMin();
+            WorldPos max = component.getBoundsMax();
+            for (int y = toCell(min.y()); y <= toCell(max.y()); y++) {
+                for (int x = toCell(min.x()); x <= toCell(max.x()); x++) {
+                    this.cells.computeIfAbsent(key(x, y), k -> new ArrayList<>()).add(component);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The entities of the batch in the order they were added
+     */
+    public List<Entity> getEntities() {
+        return Collections.unmodifiableList(this.entities);
+    }
+
+    public int size() {
+        return this.entities.size();
+    }
+
+    public boolean isEmpty() {
+        return this.entities.isEmpty();
+    }
+
+    /**
+     * Remove all entities from the batch.
+     */
+    public void clear() {
+        this.entities.clear();
+        this.cells.clear();
+    }
+
+    private static int toCell(double coordinate) {
+        return (int) Math.floor(coordinate / CELL_SIZE);
+    }
+
+    private static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+}
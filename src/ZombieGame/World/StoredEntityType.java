@@ -0,0 +1,108 @@
+package ZombieGame.World;
+
+import java.util.HashMap;
+
+import ZombieGame.CharacterEquipment;
+import ZombieGame.Coordinates.WorldPos;
+import ZombieGame.Entities.Ammunition;
+import ZombieGame.Entities.Bat;
+import ZombieGame.Entities.Entity;
+import ZombieGame.Entities.Equipment;
+import ZombieGame.Entities.EquipmentStats;
+import ZombieGame.Entities.FirstAidKit;
+import ZombieGame.Entities.Gun;
+import ZombieGame.Entities.Pistol;
+import ZombieGame.Entities.Shotgun;
+import ZombieGame.Entities.Obstacles.Tree1;
+import ZombieGame.Entities.Obstacles.Tree10;
+import ZombieGame.Entities.Obstacles.Tree2;
+import ZombieGame.Entities.Obstacles.Tree3;
+
+/**
+ * The static entities which could be written into the region files together with their chunk.
+ * An entity is stored as its type, its position and one int of state, e.g. the ammunition of dropped equipment.
+ */
+enum StoredEntityType {
+    TREE_1(Tree1.class),
+    TREE_2(Tree2.class),
+    TREE_3(Tree3.class),
+    TREE_10(Tree10.class),
+    AMMUNITION(Ammunition.class),
+    FIRST_AID_KIT(FirstAidKit.class),
+    BAT(Bat.class),
+    GUN(Gun.class),
+    PISTOL(Pistol.class),
+    SHOTGUN(Shotgun.class);
+
+    private static final StoredEntityType[] TYPES = values();
+    private static final HashMap<Class<?>, StoredEntityType> BY_CLASS = new HashMap<>();
+
+    static {
+        for (StoredEntityType type : TYPES) {
+            BY_CLASS.put(type.entityClass, type);
+        }
+    }
+
+    private final Class<? extends Entity> entityClass;
+
+    private StoredEntityType(Class<? extends Entity> entityClass) {
+        this.entityClass = entityClass;
+    }
+
+    /**
+     * @param entity The entity to store
+     * @return The type of the entity or {@code null} if the entity could not be stored
+     */
+    static StoredEntityType of(Entity entity) {
+        return BY_CLASS.get(entity.getClass());
+    }
+
+    /**
+     * @return The type with the ordinal or {@code null} if there is none
+     */
+    static StoredEntityType fromOrdinal(int ordinal) {
+        if (ordinal < 0 || ordinal >= TYPES.length) {
+            return null;
+        }
+        return TYPES[ordinal];
+    }
+
+    /**
+     * @param entity The entity of this type
+     * @return The state of the entity which has to be stored
+     */
+    int payloadOf(Entity entity) {
+        if (entity instanceof Equipment equipment) {
+            return equipment.getEquipmentStats().getAmmunition();
+        }
+        return 0;
+    }
+
+    /**
+     * Create the entity again from the stored values.
+     *
+     * @param pos The position of the entity
+     * @param payload The state of the entity returned by {@link #payloadOf(Entity)}
+     * @return The new entity
+     */
+    Entity create(WorldPos pos, int payload) {
+        return switch (this) {
+            case TREE_1 -> new Tree1(pos);
+            case TREE_2 -> new Tree2(pos);
+            case TREE_3 -> new Tree3(pos);
+            case TREE_10 -> new Tree10(pos);
+            case AMMUNITION -> new Ammunition(pos);
+            case FIRST_AID_KIT -> new FirstAidKit(pos);
+            case BAT -> new Bat(pos, stats(CharacterEquipment.BAT, payload));
+            case GUN -> new Gun(pos, stats(CharacterEquipment.GUN, payload));
+            case PISTOL -> new Pistol(pos, stats(CharacterEquipment.PISTOL, payload));
+            case SHOTGUN -> new Shotgun(pos, stats(CharacterEquipment.SHOTGUN, payload));
+        };
+    }
+
+    private static EquipmentStats stats(CharacterEquipment equipment, int ammunition) {
+        EquipmentStats stats = new EquipmentStats(equipment);
+        stats.addAmmunition(ammunition - stats.getAmmunition());
+        return stats;
+    }
+}
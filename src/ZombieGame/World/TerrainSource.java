@@ -0,0 +1,16 @@
+package ZombieGame.World;
+
+/**
+ * Source of the tiles of the world. A tile only depends on its position, so chunks could be generated in any order without their neighbours.
+ * <p>
+ * The positions are in tile data of the world, a chunk covers {@link Chunk#DATA_SIZE} values in each direction and shares its edges with its neighbours.
+ * The tile data of the chunk is at {@code index * (Chunk.DATA_SIZE - 1) + local}.
+ */
+public interface TerrainSource {
+    /**
+     * @param x The x position in the tile data of the world
+     * @param y The y position in the tile data of the world
+     * @return The tile at the position
+     */
+    TileType getTile(int x, int y);
+}
@@ -0,0 +1,23 @@
+package ZombieGame.World;
+
+class TileCluster {
+    public final TilePos tl, t, tr;
+    public final TilePos l, c, r;
+    public final TilePos bl, b, br;
+
+    TileCluster(TilePos tl, TilePos t, TilePos tr, TilePos l, TilePos c, TilePos r, TilePos bl, TilePos b, TilePos br) {
+        this.tl = tl;
+        this.t = t;
+        this.tr = tr;
+        this.l = l;
+        this.c = c;
+        this.r = r;
+        this.bl = bl;
+        this.b = b;
+        this.br = br;
+    }
+
+    public static final int size() {
+        return 9;
+    }
+}
@@ -0,0 +1,72 @@
+package ZombieGame.World;
+
+enum TilePos {
+    /**
+     * Solid grass tile with no dirt edges.
+     */
+    GRASS_FULL(5, 0),
+    /**
+     * Grass tile with dirt exposed on the top right corner.
+     */
+    GRASS_TOP_RIGHT_DIRT(14, 2),
+    /**
+     * Grass tile with dirt exposed on the bottom right corner.
+     */
+    GRASS_BOTTOM_RIGHT_DIRT(14, 0),
+    /**
+     * Grass tile with dirt exposed on the bottom left corner.
+     */
+    GRASS_BOTTOM_LEFT_DIRT(16, 0),
+    /**
+     * Grass tile with dirt exposed on the top left corner.
+     */
+    GRASS_TOP_LEFT_DIRT(16, 2),
+    /**
+     * Grass tile with dirt exposed along the top edge.
+     */
+    GRASS_TOP_DIRT(15, 2),
+    /**
+     * Grass tile with dirt exposed along the right edge.
+     */
+    GRASS_RIGHT_DIRT(14, 1),
+    /**
+     * Grass tile with dirt exposed along the bottom edge.
+     */
+    GRASS_BOTTOM_DIRT(15, 0),
+    /**
+     * Grass tile with dirt exposed along the left edge.
+     */
+    GRASS_LEFT_DIRT(16, 1),
+    /**
+     * Grass tile with dirt exposed on the top and right edges forming a corner cut-in.
+     */
+    GRASS_TOP_AND_RIGHT_DIRT(14, 7), // 14, 5
+    /**
+     * Grass tile with dirt exposed on the bottom and right edges forming a corner cut-in.
+     */
+    GRASS_BOTTOM_AND_RIGHT_DIRT(14, 8), // 14, 6
+    /**
+     * Grass tile with dirt exposed on the bottom and left edges forming a corner cut-in.
+     */
+    GRASS_BOTTOM_AND_LEFT_DIRT(13, 8), // 13, 6
+    /**
+     * Grass tile with dirt exposed on the top and left edges forming a corner cut-in.
+     */
+    GRASS_TOP_AND_LEFT_DIRT(13, 7), // 13, 5
+    /**
+     * Solid dirt tile with no grass edges.
+     */
+    DIRT_FULL(15, 1),
+    /**
+     * Dirt but fully surrounded with grass
+     */
+    DIRT_SURROUNDED(18, 0);
+
+    TilePos(int column, int row) {
+        this.column = column;
+        this.row = row;
+    }
+
+    public final int column;
+    public final int row;
+}
@@ -0,0 +1,93 @@
+package ZombieGame.World;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+import ZombieGame.Sprites.StaticSprite;
+import ZombieGame.Systems.Graphic.GraphicSystem;
+import ZombieGame.Systems.Graphic.MissingTexture;
+
+/**
+ * Immutable images of the tiles shared by all chunks, built once from {@link ClusterTileLookup#TABLE}.
+ * Every {@link TilePos} is cut out of the tile set and scaled to its draw size, so baking a chunk only copies images.
+ * The images are opaque in the format of the screen, like the baked chunks.
+ * <p>
+ * The images of a cluster are looked up by the bit mask of the cluster, which contains the type of the center tile and its neighbours.
+ */
+final class TileSpriteTable {
+    private static final TileSpriteTable INSTANCE = new TileSpriteTable();
+
+    private final int tileWidth;
+    private final int tileHeight;
+    private final BufferedImage missingTile;
+    // The nine images of a cluster row by row by bit mask, null if there is no cluster for the bit mask
+    private final BufferedImage[][] clusters;
+
+    private TileSpriteTable() {
+        StaticSprite sheet = TileType.getSprite(0, 0);
+        this.tileWidth = Math.max(1, (int) sheet.getDrawWidth());
+        this.tileHeight = Math.max(1, (int) sheet.getDrawHeight());
+
+        BufferedImage[] tiles = new BufferedImage[TilePos.values().length];
+        for (TilePos pos : TilePos.values()) {
+            tiles[pos.ordinal()] = this.scaleTile(sheet.getSprite(), pos.column * sheet.getTileWidth(), pos.row * sheet.getTileHeight(), sheet.getTileWidth(), sheet.getTileHeight());
+        }
+        BufferedImage missing = MissingTexture.getTexture();
+        this.missingTile = this.scaleTile(missing, 0, 0, missing.getWidth(), missing.getHeight());
+
+        this.clusters = new BufferedImage[ClusterTileLookup.TABLE.length][];
+        for (int mask = 0; mask < ClusterTileLookup.TABLE.length; mask++) {
+            TileCluster cluster = ClusterTileLookup.TABLE[mask];
+            if (cluster == null) {
+                continue;
+            }
+            this.clusters[mask] = new BufferedImage[] {
+                    tiles[cluster.tl.ordinal()], tiles[cluster.t.ordinal()], tiles[cluster.tr.ordinal()],
+                    tiles[cluster.l.ordinal()], tiles[cluster.c.ordinal()], tiles[cluster.r.ordinal()],
+                    tiles[cluster.bl.ordinal()], tiles[cluster.b.ordinal()], tiles[cluster.br.ordinal()] };
+        }
+    }
+
+    static TileSpriteTable getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param mask The bit mask of the cluster
+     * @return The nine images of the cluster row by row or {@code null} if the tile set has no cluster for the bit mask
+     */
+    BufferedImage[] getCluster(int mask) {
+        if (mask < 0 || mask >= this.clusters.length) {
+            return null;
+        }
+        return this.clusters[mask];
+    }
+
+    /**
+     * @return The missing texture in the size of a tile
+     */
+    BufferedImage getMissingTile() {
+        return this.missingTile;
+    }
+
+    int getTileWidth() {
+        return this.tileWidth;
+    }
+
+    int getTileHeight() {
+        return this.tileHeight;
+    }
+
+    private BufferedImage scaleTile(BufferedImage source, int x, int y, int width, int height) {
+        BufferedImage tile = GraphicSystem.createCompatibleImage(this.tileWidth, this.tileHeight, Transparency.OPAQUE);
+        Graphics2D graphics = tile.createGraphics();
+        // Transparent pixels of the tile set look like before, when the background was drawn over the cleared screen
+        graphics.setColor(Color.LIGHT_GRAY);
+        graphics.fillRect(0, 0, this.tileWidth, this.tileHeight);
+        graphics.drawImage(source, 0, 0, this.tileWidth, this.tileHeight, x, y, x + width, y + height, null);
+        graphics.dispose();
+        return tile;
+    }
+}
@@ -70,13 +70,15 @@ public enum TileType {
         return (start + end) * 0.5 / TOTAL;
     }
 
-    private static StaticSprite getSprite(int column, int row) {
+    static StaticSprite getSprite(int column, int row) {
         return new StaticSprite("assets\\PostApocalypse_AssetPack\\Tiles\\Background_Dark-Green_TileSet.png", 24, 17, 3, column, row);
     }
 
     public static void preLoadSprite() {
         StaticSprite sprite = getSprite(0, 0);
         Chunk.TILE_SIZE = sprite.getDrawWidth();
+        // Build the shared tile images before the first chunk is baked
+        TileSpriteTable.getInstance();
     }
 
     public static StaticSprite[][] ClusterToSprites(TileType tl, TileType t, TileType tr, TileType l, TileType c, TileType r, TileType bl, TileType b, TileType br) {
@@ -112,7 +114,7 @@ public enum TileType {
         return sprites;
     }
 
-    private static int calcBitMask(TileType topLeft, TileType top, TileType topRight, TileType left, TileType center, TileType right, TileType bottomLeft, TileType bottom, TileType bottomRight) {
+    static int calcBitMask(TileType topLeft, TileType top, TileType topRight, TileType left, TileType center, TileType right, TileType bottomLeft, TileType bottom, TileType bottomRight) {
 
         boolean n = top == DIRT;
         boolean e = right == DIRT;
@@ -284,158 +286,3 @@ public enum TileType {
         }
     }
 }
-
-enum TilePos {
-    /**
-     * Solid grass tile with no dirt edges.
-     */
-    GRASS_FULL(5, 0),
-    /**
-     * Grass tile with dirt exposed on the top right corner.
-     */
-    GRASS_TOP_RIGHT_DIRT(14, 2),
-    /**
-     * Grass tile with dirt exposed on the bottom right corner.
-     */
-    GRASS_BOTTOM_RIGHT_DIRT(14, 0),
-    /**
-     * Grass tile with dirt exposed on the bottom left corner.
-     */
-    GRASS_BOTTOM_LEFT_DIRT(16, 0),
-    /**
-     * Grass tile with dirt exposed on the top left corner.
-     */
-    GRASS_TOP_LEFT_DIRT(16, 2),
-    /**
-     * Grass tile with dirt exposed along the top edge.
-     */
-    GRASS_TOP_DIRT(15, 2),
-    /**
-     * Grass tile with dirt exposed along the right edge.
-     */
-    GRASS_RIGHT_DIRT(14, 1),
-    /**
-     * Grass tile with dirt exposed along the bottom edge.
-     */
-    GRASS_BOTTOM_DIRT(15, 0),
-    /**
-     * Grass tile with dirt exposed along the left edge.
-     */
-    GRASS_LEFT_DIRT(16, 1),
-    /**
-     * Grass tile with dirt exposed on the top and right edges forming a corner cut-in.
-     */
-    GRASS_TOP_AND_RIGHT_DIRT(14, 7), // 14, 5
-    /**
-     * Grass tile with dirt exposed on the bottom and right edges forming a corner cut-in.
-     */
-    GRASS_BOTTOM_AND_RIGHT_DIRT(14, 8), // 14, 6
-    /**
-     * Grass tile with dirt exposed on the bottom and left edges forming a corner cut-in.
-     */
-    GRASS_BOTTOM_AND_LEFT_DIRT(13, 8), // 13, 6
-    /**
-     * Grass tile with dirt exposed on the top and left edges forming a corner cut-in.
-     */
-    GRASS_TOP_AND_LEFT_DIRT(13, 7), // 13, 5
-    /**
-     * Solid dirt tile with no grass edges.
-     */
-    DIRT_FULL(15, 1),
-    /**
-     * Dirt but fully surrounded with grass
-     */
-    DIRT_SURROUNDED(18, 0);
-
-    TilePos(int column, int row) {
-        this.column = column;
-        this.row = row;
-    }
-
-    public final int column;
-    public final int row;
-}
-
-class TileCluster {
-    public final TilePos tl, t, tr;
-    public final TilePos l, c, r;
-    public final TilePos bl, b, br;
-
-    TileCluster(TilePos tl, TilePos t, TilePos tr, TilePos l, TilePos c, TilePos r, TilePos bl, TilePos b, TilePos br) {
-        this.tl = tl;
-        this.t = t;
-        this.tr = tr;
-        this.l = l;
-        this.c = c;
-        this.r = r;
-        this.bl = bl;
-        this.b = b;
-        this.br = br;
-    }
-
-    public static final int size() {
-        return 9;
-    }
-}
-
-/**
- * This should not be changed this table is derived from the blob tile set. if the textures should be changed this could be done in {@link TilePos} by changing the column and row values
- * 
- * @see https://www.boristhebrave.com/permanent/24/06/cr31/stagecast/wang/blob.html
- */
-class ClusterTileLookup {
-    public static final TileCluster[] TABLE = new TileCluster[(int) Math.pow(TileType.values().length, TileCluster.size())];
-
-    static {
-        TABLE[0] = new TileCluster(TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL);
-        TABLE[256 + 1] = new TileCluster(TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_TOP_RIGHT_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_LEFT_DIRT);
-        TABLE[256 + 4] = new TileCluster(TilePos.GRASS_BOTTOM_RIGHT_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_RIGHT_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT);
-        TABLE[256 + 16] = new TileCluster(TilePos.GRASS_BOTTOM_RIGHT_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_LEFT_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT);
-        TABLE[256 + 64] = new TileCluster(TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_LEFT_DIRT);
-        TABLE[256 + 5] = new TileCluster(TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_RIGHT_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT);
-        TABLE[256 + 20] = new TileCluster(TilePos.GRASS_BOTTOM_RIGHT_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
-        TABLE[256 + 80] = new TileCluster(TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT);
-        TABLE[256 + 65] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_LEFT_DIRT);
-        TABLE[256 + 7] = new TileCluster(TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_RIGHT_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT);
-        TABLE[256 + 28] = new TileCluster(TilePos.GRASS_BOTTOM_RIGHT_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
-        TABLE[256 + 112] = new TileCluster(TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT);
-        TABLE[256 + 193] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_LEFT_DIRT);
-        TABLE[256 + 17] = new TileCluster(TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT);
-        TABLE[256 + 68] = new TileCluster(TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT);
-        TABLE[256 + 21] = new TileCluster(TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
-        TABLE[256 + 84] = new TileCluster(TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
-        TABLE[256 + 81] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT);
-        TABLE[256 + 69] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT);
-        TABLE[256 + 23] = new TileCluster(TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
-        TABLE[256 + 92] = new TileCluster(TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
-        TABLE[256 + 113] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT);
-        TABLE[256 + 197] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT);
-        TABLE[256 + 29] = new TileCluster(TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
-        TABLE[256 + 116] = new TileCluster(TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
-        TABLE[256 + 209] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT);
-        TABLE[256 + 71] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT);
-        TABLE[256 + 31] = new TileCluster(TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
-        TABLE[256 + 124] = new TileCluster(TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.GRASS_BOTTOM_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
-        TABLE[256 + 241] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_LEFT_DIRT);
-        TABLE[256 + 199] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT, TilePos.GRASS_TOP_DIRT);
-        TABLE[256 + 85] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
-        TABLE[256 + 87] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
-        TABLE[256 + 93] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
-        TABLE[256 + 117] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
-        TABLE[256 + 213] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
-        TABLE[256 + 95] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
-        TABLE[256 + 125] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
-        TABLE[256 + 245] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
-        TABLE[256 + 215] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
-        TABLE[256 + 119] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
-        TABLE[256 + 221] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
-        TABLE[256 + 127] = new TileCluster(TilePos.GRASS_BOTTOM_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
-        TABLE[256 + 253] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_BOTTOM_AND_LEFT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
-        TABLE[256 + 247] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_LEFT_DIRT);
-        TABLE[256 + 223] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.GRASS_TOP_AND_RIGHT_DIRT, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
-        TABLE[256 + 255] = new TileCluster(TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL, TilePos.DIRT_FULL);
-
-        // Additional
-        TABLE[256] = new TileCluster(TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.DIRT_SURROUNDED, TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL, TilePos.GRASS_FULL);
-    }
-}
\ No newline at end of file
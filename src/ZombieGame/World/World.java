@@ -1,26 +1,34 @@
 package ZombieGame.World;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.Map.Entry;
 import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 
+import ZombieGame.EntityType;
 import ZombieGame.Viewport;
 import ZombieGame.Algorithms.PoissonSampling;
+import ZombieGame.Capabilities.Capability;
 import ZombieGame.Capabilities.DebuggableGeometry;
 import ZombieGame.Capabilities.DebuggableText;
 import ZombieGame.Capabilities.Drawable;
 import ZombieGame.Components.Component;
+import ZombieGame.Components.LifeComponent;
+import ZombieGame.Components.LifetimeComponent;
+import ZombieGame.Components.LivingComponent;
 import ZombieGame.Components.PhysicsComponent;
 import ZombieGame.Coordinates.ChunkIndex;
 import ZombieGame.Coordinates.ChunkLocalPos;
@@ -40,25 +48,75 @@ import ZombieGame.Systems.Physic.PhysicsSystem;
 record ChunkMove(Entity entity, ChunkIndex oldChunk) {
 }
 
+// A payload finished by a generation worker, the payload is null if the generation failed
+record GeneratedChunk(ChunkIndex index, ChunkPayload payload, long submittedAt) {
+}
+
 public abstract class World implements DebuggableText {
+	// Number of entities checked for despawning per step, a full pass over all living entities is spread over several steps
+	public static final int DESPAWN_CHECKS_PER_STEP = 64;
+	// Chunks are generated off the game thread, one core is left for the game loop
+	private static final int GENERATION_WORKERS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+	// Maximum number of chunks handed to the workers at once, the rest stays in the queue so it could still be reordered
+	private static final int MAX_GENERATION_IN_FLIGHT = GENERATION_WORKERS * 2;
+
 	// if game is over
 	public boolean gameOver;
-	private long lastChunkGenerationTime = -1;
+	// Every chunk is generated from the seed and its index only
+	private final long seed;
+	// Time from handing a chunk to the workers until it is committed to the world
+	private long lastChunkGenerationLatency = -1;
 	private double worldTimeSeconds = 0;
 
 	private Viewport viewport = new Viewport();
 
 	// all objects in the game, including the Avatar
-	private HashMap<ChunkIndex, Set<Entity>> entities = new HashMap<>();
+	private final ChunkMap<Set<Entity>> entities = new ChunkMap<>();
 	private ArrayList<UIElement> uiElements = new ArrayList<>();
+	// Entities by their class and type
+	private final EntityRegistry entityRegistry = new EntityRegistry();
+	// Entities and ui elements by the types of their components
+	private final ComponentIndex<Entity> componentIndex = new ComponentIndex<>(() -> this.entityIterator());
+	private final ComponentIndex<UIElement> uiComponentIndex = new ComponentIndex<>(() -> this.uiElements.iterator());
 	private ArrayList<Entity> pendingAdditions = new ArrayList<>();
 	private ArrayList<Entity> pendingRemovals = new ArrayList<>();
 	private ArrayList<ChunkMove> pendingChunkMoves = new ArrayList<>();
-	private final HashMap<ChunkIndex, Chunk> generatedChunks = new HashMap<>();
-	private final HashMap<ChunkIndex, Boolean> loadedChunks = new HashMap<>();
+	private final ChunkMap<Chunk> generatedChunks = new ChunkMap<>();
+	// Dense list of the loaded chunks with the position of every chunk in it for removing by swapping with the last one
+	private final ArrayList<ChunkIndex> loadedChunks = new ArrayList<>();
+	private final ChunkMap<Integer> loadedChunkPositions = new ChunkMap<>();
+	// Chunks are only baked while loaded or recently unloaded
+	private final ChunkBakeCache chunkBakeCache = new ChunkBakeCache();
+	// Chunks far away from the viewport are written into region files and restored when they are needed again
+	private final RegionStore regionStore = new RegionStore();
+	private int chunksEvicted = 0;
+	private int chunksRestored = 0;
 	private final UniquePriorityQueue<ChunkIndex> generationQueue = new UniquePriorityQueue<>(new ChunkDistanceComparator(this));
+	private final ExecutorService generationWorkers = Executors.newFixedThreadPool(GENERATION_WORKERS, task -> {
+		Thread thread = new Thread(task, "chunk-generation");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final ConcurrentLinkedQueue<GeneratedChunk> generatedPayloads = new ConcurrentLinkedQueue<>();
+	private final HashSet<ChunkIndex> generationInFlight = new HashSet<>();
+	// Position of the next living entity to check for despawning and the entities despawned in the current and last pass
+	private int despawnCursor = 0;
+	private int despawnedInPass = 0;
+	private int despawnedLastPass = 0;
+	private long despawnedTotal = 0;
 
+	/**
+	 * World with a random seed
+	 */
 	protected World() {
+		this(ThreadLocalRandom.current().nextLong());
+	}
+
+	/**
+	 * @param seed The seed the chunks are generated from, the same seed generates the same chunks
+	 */
+	protected World(long seed) {
+		this.seed = seed;
 		if (!DebugSystem.getInstance().registerDebuggable(this)) {
 			System.err.println("Failed to register World to debug system");
 		}
@@ -109,33 +167,27 @@ public abstract class World implements DebuggableText {
 	 * @param deltaTime The time since last frame in seconds
 	 */
 	public final void update(double deltaTime) {
-		// Add new entities
-		Iterator<Entity> additionsIterator = pendingAdditions.iterator();
-		while (additionsIterator.hasNext()) {
-			Entity e = additionsIterator.next();
-
-			this.entities.computeIfAbsent(e.getPositionComponent().getWorldPos().toChunkIndex(), s -> new HashSet<>()).add(e);
-			this.registerEntityComponents(e);
-			additionsIterator.remove();
+		// Add new entities, the queues are drained in one pass and cleared afterwards
+		if (!this.pendingAdditions.isEmpty()) {
+			this.insertEntities(this.pendingAdditions);
+			this.pendingAdditions.clear();
 		}
 
 		// Remove entities
-		Iterator<Entity> removalsIterator = pendingRemovals.iterator();
-		while (removalsIterator.hasNext()) {
-			Entity e = removalsIterator.next();
+		for (int i = 0; i < this.pendingRemovals.size(); i++) {
+			Entity e = this.pendingRemovals.get(i);
 
 			Set<Entity> set = this.entities.get(e.getPositionComponent().getWorldPos().toChunkIndex());
 			if (set != null) {
 				set.remove(e);
 			}
-
-			removalsIterator.remove();
+			this.unindexEntity(e);
 		}
+		this.pendingRemovals.clear();
 
 		// Chunk switches of entities
-		Iterator<ChunkMove> chunkMovesIterator = pendingChunkMoves.iterator();
-		while (chunkMovesIterator.hasNext()) {
-			ChunkMove move = chunkMovesIterator.next();
+		for (int i = 0; i < this.pendingChunkMoves.size(); i++) {
+			ChunkMove move = this.pendingChunkMoves.get(i);
 
 			if (move.oldChunk() != null) {
 				Set<Entity> oldSet = this.entities.get(move.oldChunk());
@@ -145,38 +197,100 @@ public abstract class World implements DebuggableText {
 			}
 
 			this.entities.computeIfAbsent(move.entity().getPositionComponent().getWorldPos().toChunkIndex(), s -> new HashSet<>()).add(move.entity());
-
-			chunkMovesIterator.remove();
 		}
+		this.pendingChunkMoves.clear();
 
 		this.worldTimeSeconds += deltaTime;
 	}
 
+	/**
+	 * Add all entities of the batch to the world in one pass and register their components to the systems.
+	 * The batch is empty afterwards.
+	 * 
+	 * @param batch The entities which should be added to the world
+	 */
+	public final void spawnEntities(SpawnBatch batch) {
+		if (batch.isEmpty()) {
+			return;
+		}
+		this.insertEntities(batch.getEntities());
+		batch.clear();
+	}
+
+	/**
+	 * Store the entities in their chunks, index them and register their components to the systems.
+	 * The components of entities in chunks which are not loaded are registered when their chunk gets loaded.
+	 */
+	private final void insertEntities(List<Entity> added) {
+		ArrayList<Entity> inLoadedChunks = new ArrayList<>(added.size());
+		for (int i = 0; i < added.size(); i++) {
+			Entity e = added.get(i);
+			ChunkIndex index = e.getPositionComponent().getWorldPos().toChunkIndex();
+
+			this.entities.computeIfAbsent(index, s -> new HashSet<>()).add(e);
+			this.indexEntity(e);
+			if (this.isChunkLoaded(index)) {
+				inLoadedChunks.add(e);
+			}
+		}
+		this.registerEntitiesComponents(inLoadedChunks);
+	}
+
+	private final void indexEntity(Entity entity) {
+		this.entityRegistry.add(entity);
+		this.componentIndex.add(entity);
+	}
+
+	private final void unindexEntity(Entity entity) {
+		this.entityRegistry.remove(entity);
+		this.componentIndex.remove(entity);
+		entity.release();
+	}
+
 	public final double getWorldTimeSeconds() {
 		return this.worldTimeSeconds;
 	}
 
-	private final void registerEntityComponents(Entity entity) {
+	/**
+	 * Register the components of several entities, the drawables are registered to the graphic system at once.
+	 */
+	private final void registerEntitiesComponents(Collection<Entity> entities) {
+		ArrayList<Drawable> drawables = new ArrayList<>();
+		for (Entity entity : entities) {
+			entity.getComponents(PhysicsComponent.class).forEach(c -> {
+				if (!PhysicsSystem.getInstance().registerComponent(c)) {
+					System.err.println(String.format("Failed to register %s to physics system", entity.toString()));
+				}
+			});
+			drawables.addAll(entity.getComponentsByCapability(Drawable.class));
+			entity.getComponentsByCapability(DebuggableGeometry.class).forEach(c -> {
+				if (!DebugSystem.getInstance().registerDebuggable(c)) {
+					System.err.println(String.format("Failed to register %s to debug system", entity.toString()));
+				}
+			});
+			entity.getComponentsByCapability(DebuggableText.class).forEach(c -> {
+				if (!DebugSystem.getInstance().registerDebuggable(c)) {
+					System.err.println(String.format("Failed to register %s to debug system", entity.toString()));
+				}
+			});
+		}
+		if (!GraphicSystem.getInstance().registerDrawables(drawables)) {
+			System.err.println("Failed to register entities to graphics system");
+		}
+	}
+
+	/**
+	 * Unregister the components of the entity without reporting the components which are not registered.
+	 */
+	private final void unregisterEntityComponentsIfRegistered(Entity entity) {
 		entity.getComponents(PhysicsComponent.class).forEach(c -> {
-			if (!PhysicsSystem.getInstance().registerComponent(c)) {
-				System.err.println(String.format("Failed to register %s to physics system", entity.toString()));
-			}
-		});
-		entity.getComponentsByCapability(Drawable.class).forEach(c -> {
-			if (!GraphicSystem.getInstance().registerDrawable(c)) {
-				System.err.println(String.format("Failed to register %s to graphics system", entity.toString()));
-			}
-		});
-		entity.getComponentsByCapability(DebuggableGeometry.class).forEach(c -> {
-			if (!DebugSystem.getInstance().registerDebuggable(c)) {
-				System.err.println(String.format("Failed to register %s to debug system", entity.toString()));
-			}
-		});
-		entity.getComponentsByCapability(DebuggableText.class).forEach(c -> {
-			if (!DebugSystem.getInstance().registerDebuggable(c)) {
-				System.err.println(String.format("Failed to register %s to debug system", entity.toString()));
+			if (PhysicsSystem.getInstance().isRegistered(c)) {
+				PhysicsSystem.getInstance().unregisterComponent(c);
 			}
 		});
+		entity.getComponentsByCapability(Drawable.class).forEach(c -> GraphicSystem.getInstance().unregisterDrawable(c));
+		entity.getComponentsByCapability(DebuggableGeometry.class).forEach(c -> DebugSystem.getInstance().unregisterDebuggable(c));
+		entity.getComponentsByCapability(DebuggableText.class).forEach(c -> DebugSystem.getInstance().unregisterDebuggable(c));
 	}
 
 	private final void unregisterEntityComponents(Entity entity) {
@@ -204,6 +318,7 @@ public abstract class World implements DebuggableText {
 
 	/**
 	 * Returns all entities having the component.
+	 * The returned collection is a live view of the index and is not allocated per call.
 	 * <p>
 	 * For {@link UIElement UIElements} use {@link World#getUIElementsWithComponent(Class)}
 	 * 
@@ -211,17 +326,132 @@ public abstract class World implements DebuggableText {
 	 * @param type The type of Component which should be returned
 	 */
 	public final <T extends Component> Collection<Entity> getEntitiesWithComponent(Class<T> type) {
-		ArrayList<Entity> elements = new ArrayList<>();
-		for (Entry<ChunkIndex, Set<Entity>> entry : this.entities.entrySet()) {
-			Set<Entity> entitiesInChunk = entry.getValue();
-			for (Entity entity : entitiesInChunk) {
-				if (!entity.getComponents(type).isEmpty()) {
-					elements.add(entity);
+		return this.componentIndex.get(type).view();
+	}
+
+	/**
+	 * Returns all entities having a component with the capability.
+	 * The returned collection is a live view of the index and is not allocated per call.
+	 * 
+	 * @param <T> A Interface which extends the Capability Interface
+	 * @param type The capability the components should have
+	 */
+	public final <T extends Capability> Collection<Entity> getEntitiesWithCapability(Class<T> type) {
+		return this.componentIndex.get(type).view();
+	}
+
+	/**
+	 * Returns an iterator over the entities having the component.
+	 * <p>
+	 * Ensure side effects.
+	 * 
+	 * @param <T> A Class which extends the Component Class
+	 * @param type The type of Component the entities should have
+	 */
+	public final <T extends Component> Iterator<Entity> entityIterator(Class<T> type) {
+		EntitySet<Entity> set = this.componentIndex.get(type);
+		return new Iterator<>() {
+			// Iterate backwards, so removing moves an already visited entity to the current index
+			private int index = set.size();
+			private Entity last = null;
+
+			@Override
+			public boolean hasNext() {
+				return this.index > 0;
+			}
+
+			@Override
+			public Entity next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
 				}
+				this.index--;
+				last = set.get(this.index);
+				return last;
 			}
+
+			@Override
+			public void remove() {
+				if (last == null) {
+					throw new IllegalStateException("remove() called before next()");
+				}
+				unregisterEntityComponents(last);
+				removeEntityFromChunk(last);
+				unindexEntity(last);
+				last = null;
+			}
+		};
+	}
+
+	/**
+	 * Despawn the entities with a {@link LifeComponent} or {@link LifetimeComponent} which are outside of {@link Chunk#CHUNK_DESPAWN} additional chunks around the viewport.
+	 * Items only have a plain {@link LivingComponent} and stay in their chunk.
+	 * Only a part of the entities is checked per call, continuing where the last call stopped, so a full pass is spread over several steps.
+	 * 
+	 * @param maxChecks The maximum amount of entities checked with this call
+	 */
+	public final void despawnDistantEntities(int maxChecks) {
+		EntitySet<Entity> living = this.componentIndex.get(LivingComponent.class);
+		if (living.isEmpty()) {
+			return;
 		}
 
-		return Collections.unmodifiableCollection(elements);
+		ChunkIndex viewCenter = Viewport.getCenter().toWorldPos(this).toChunkIndex();
+
+		int chunkCountX = (int) Math.ceil(Viewport.getScreenWidth() / Chunk.getChunkSize());
+		int chunkCountY = (int) Math.ceil(Viewport.getScreenHeight() / Chunk.getChunkSize());
+
+		int minKeepX = viewCenter.x() + (int) Math.floor(-(chunkCountX + Chunk.CHUNK_DESPAWN) / 2.0) - 1;
+		int maxKeepX = viewCenter.x() + (int) Math.ceil((chunkCountX + Chunk.CHUNK_DESPAWN) / 2.0) + 1;
+		int minKeepY = viewCenter.y() + (int) Math.floor(-(chunkCountY + Chunk.CHUNK_DESPAWN) / 2.0) - 1;
+		int maxKeepY = viewCenter.y() + (int) Math.ceil((chunkCountY + Chunk.CHUNK_DESPAWN) / 2.0) + 1;
+
+		for (int i = 0; i < maxChecks && !living.isEmpty(); i++) {
+			// Start the next pass
+			if (this.despawnCursor >= living.size()) {
+				this.despawnCursor = 0;
+				this.despawnedLastPass = this.despawnedInPass;
+				this.despawnedInPass = 0;
+			}
+
+			Entity entity = living.get(this.despawnCursor);
+			ChunkIndex index = entity.getPositionComponent().getWorldPos().toChunkIndex();
+			if (entity instanceof Avatar || !isDespawnable(entity) || (minKeepX <= index.x() && index.x() <= maxKeepX && minKeepY <= index.y() && index.y() <= maxKeepY)) {
+				this.despawnCursor++;
+				continue;
+			}
+
+			// Removing moves the last entity to the cursor, so the cursor stays to check it next
+			// The entities of unloaded chunks are already unregistered from the systems
+			this.unregisterEntityComponentsIfRegistered(entity);
+			removeEntityFromChunk(entity);
+			unindexEntity(entity);
+			this.despawnedInPass++;
+			this.despawnedTotal++;
+		}
+	}
+
+	private static boolean isDespawnable(Entity entity) {
+		return entity.hasComponent(LifeComponent.class) || entity.hasComponent(LifetimeComponent.class);
+	}
+
+	/**
+	 * Remove the entity from the chunk it is stored in, including a pending switch to another chunk.
+	 */
+	private final void removeEntityFromChunk(Entity entity) {
+		Set<Entity> set = this.entities.get(entity.getPositionComponent().getWorldPos().toChunkIndex());
+		if (set == null || !set.remove(entity)) {
+			// The entity is still stored in the chunk it left in this step
+			for (ChunkMove move : this.pendingChunkMoves) {
+				if (move.entity() == entity && move.oldChunk() != null) {
+					Set<Entity> oldSet = this.entities.get(move.oldChunk());
+					if (oldSet != null) {
+						oldSet.remove(entity);
+					}
+				}
+			}
+		}
+		this.pendingChunkMoves.removeIf(move -> move.entity() == entity);
 	}
 
 	/**
@@ -232,15 +462,24 @@ public abstract class World implements DebuggableText {
 	 * @param more More chunks indices to look for entities
 	 */
 	public final <T extends Component> Collection<Entity> getEntitiesInChunk(ChunkIndex index, ChunkIndex... more) {
-		ArrayList<ChunkIndex> searchedChunks = new ArrayList<>();
-		searchedChunks.add(index);
-		searchedChunks.addAll(Arrays.asList(more));
-
 		ArrayList<Entity> elements = new ArrayList<>();
-		for (Entry<ChunkIndex, Set<Entity>> entry : this.entities.entrySet()) {
-			ChunkIndex i = entry.getKey();
-			if (searchedChunks.contains(i)) {
-				elements.addAll(entry.getValue());
+		Set<Entity> set = this.entities.get(index);
+		if (set != null) {
+			elements.addAll(set);
+		}
+
+		if (more.length > 0) {
+			// Every chunk is only searched once
+			HashSet<ChunkIndex> searchedChunks = new HashSet<>();
+			searchedChunks.add(index);
+			for (ChunkIndex i : more) {
+				if (!searchedChunks.add(i)) {
+					continue;
+				}
+				set = this.entities.get(i);
+				if (set != null) {
+					elements.addAll(set);
+				}
 			}
 		}
 
@@ -259,15 +498,63 @@ public abstract class World implements DebuggableText {
 	 * @param type The type of Entity which should be returned
 	 */
 	public final <T extends Entity> Optional<T> getEntity(Class<T> type) {
-		for (Entry<ChunkIndex, Set<Entity>> entry : this.entities.entrySet()) {
-			Set<Entity> entitiesInChunk = entry.getValue();
-			for (Entity entity : entitiesInChunk) {
-				if (type.isInstance(entity)) {
-					return Optional.of(type.cast(entity));
-				}
-			}
+		EntitySet<Entity> set = this.entityRegistry.get(type);
+		if (set.isEmpty()) {
+			return Optional.empty();
 		}
-		return Optional.empty();
+		return Optional.of(type.cast(set.get(0)));
+	}
+
+	/**
+	 * Returns all entities matching the Class.
+	 * The returned collection is a live view of the registry and is not allocated per call.
+	 * <p>
+	 * For {@link UIElement UIElements} use {@link World#getUIElements(Class)}
+	 * 
+	 * @param <T> A Class which extends the Entity Class
+	 * @param type The type of Entity which should be returned
+	 */
+	public final <T extends Entity> Collection<Entity> getEntities(Class<T> type) {
+		return this.entityRegistry.get(type).view();
+	}
+
+	/**
+	 * @param type The type of Entity which should be returned
+	 */
+	public final Optional<Entity> getEntity(EntityType type) {
+		EntitySet<Entity> set = this.entityRegistry.get(type);
+		if (set.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(set.get(0));
+	}
+
+	/**
+	 * Returns all entities of the type.
+	 * The returned collection is a live view of the registry and is not allocated per call.
+	 * 
+	 * @param type The type of Entity which should be returned
+	 */
+	public final Collection<Entity> getEntities(EntityType type) {
+		return this.entityRegistry.get(type).view();
+	}
+
+	/**
+	 * @param entity The entity to check
+	 * @return {@code true} if the entity is added to the world and was not removed yet
+	 */
+	public final boolean containsEntity(Entity entity) {
+		return this.entityRegistry.contains(entity);
+	}
+
+	/**
+	 * Get a handle to the first entity of the class, which could be cached across frames.
+	 * 
+	 * @param <T> A Class which extends the Entity Class
+	 * @param type The type of Entity the handle should point to
+	 */
+	public final <T extends Entity> EntityHandle<T> getEntityHandle(Class<T> type) {
+		return new EntityHandle<>(this, type);
 	}
 
 	/**
@@ -278,13 +565,9 @@ public abstract class World implements DebuggableText {
 	 * @param type The type of Entity which should be returned
 	 */
 	public final <T extends Entity> Optional<T> getEntityOrPending(Class<T> type) {
-		for (Entry<ChunkIndex, Set<Entity>> entry : this.entities.entrySet()) {
-			Set<Entity> entitiesInChunk = entry.getValue();
-			for (Entity entity : entitiesInChunk) {
-				if (type.isInstance(entity)) {
-					return Optional.of(type.cast(entity));
-				}
-			}
+		Optional<T> entity = this.getEntity(type);
+		if (entity.isPresent()) {
+			return entity;
 		}
 		for (Entity e : this.pendingAdditions) {
 			if (type.isInstance(e)) {
@@ -303,15 +586,18 @@ public abstract class World implements DebuggableText {
 	 */
 	public Iterator<Entity> entityIterator() {
 		return new Iterator<>() {
-			private final Iterator<Set<Entity>> chunksIt = entities.values().iterator();
+			private int slot = 0;
 			private Iterator<Entity> entitiesInChunkIt = null;
 			private Entity last = null;
 
 			@Override
 			public boolean hasNext() {
 				// Loop until we find a chunk with remaining entities
-				while ((entitiesInChunkIt == null || !entitiesInChunkIt.hasNext()) && chunksIt.hasNext()) {
-					entitiesInChunkIt = chunksIt.next().iterator();
+				while ((entitiesInChunkIt == null || !entitiesInChunkIt.hasNext()) && slot < entities.capacity()) {
+					if (entities.isUsed(slot)) {
+						entitiesInChunkIt = entities.valueAt(slot).iterator();
+					}
+					slot++;
 				}
 				return entitiesInChunkIt != null && entitiesInChunkIt.hasNext();
 			}
@@ -332,6 +618,7 @@ public abstract class World implements DebuggableText {
 				}
 				unregisterEntityComponents(last);
 				entitiesInChunkIt.remove();
+				unindexEntity(last);
 				last = null;
 			}
 		};
@@ -346,21 +633,17 @@ public abstract class World implements DebuggableText {
 	 */
 	public Iterator<Entity> loadedEntityIterator() {
 		return new Iterator<>() {
-			private final Iterator<Map.Entry<ChunkIndex, Set<Entity>>> chunkIt = entities.entrySet().iterator();
+			private int position = 0;
 			private Iterator<Entity> entitiesInChunkIt = null;
 			private Entity last = null;
 
 			@Override
 			public boolean hasNext() {
-				// Loop until we find a loaded chunk with remaining entities
-				while ((entitiesInChunkIt == null || !entitiesInChunkIt.hasNext()) && chunkIt.hasNext()) {
-					Map.Entry<ChunkIndex, Set<Entity>> entry = chunkIt.next();
-					ChunkIndex chunk = entry.getKey();
-					if (Boolean.TRUE.equals(loadedChunks.get(chunk))) {
-						entitiesInChunkIt = entry.getValue().iterator();
-					} else {
-						entitiesInChunkIt = null;
-					}
+				// Loop until we find a loaded chunk with remaining entities, only the loaded chunks are visited
+				while ((entitiesInChunkIt == null || !entitiesInChunkIt.hasNext()) && position < loadedChunks.size()) {
+					Set<Entity> set = entities.get(loadedChunks.get(position));
+					entitiesInChunkIt = set != null ? set.iterator() : null;
+					position++;
 				}
 				return entitiesInChunkIt != null && entitiesInChunkIt.hasNext();
 			}
@@ -381,6 +664,7 @@ public abstract class World implements DebuggableText {
 				}
 				unregisterEntityComponents(last);
 				entitiesInChunkIt.remove();
+				unindexEntity(last);
 				last = null;
 			}
 		};
@@ -436,6 +720,7 @@ public abstract class World implements DebuggableText {
 	 */
 	public final void addUIElement(UIElement uiElement) {
 		this.uiElements.add(uiElement);
+		this.uiComponentIndex.add(uiElement);
 		this.registerUIElementComponents(uiElement);
 	}
 
@@ -456,6 +741,7 @@ public abstract class World implements DebuggableText {
 	 */
 	public final void removeUIElement(UIElement uiElement) {
 		this.uiElements.remove(uiElement);
+		this.uiComponentIndex.remove(uiElement);
 		this.unregisterUIElementComponents(uiElement);
 	}
 
@@ -509,6 +795,7 @@ public abstract class World implements DebuggableText {
 
 	/**
 	 * Returns all ui elements having the component.
+	 * The returned collection is a live view of the index and is not allocated per call.
 	 * <p>
 	 * For {@link Entity Entities} use {@link World#getEntitiesWithComponent(Class)}
 	 * 
@@ -516,14 +803,7 @@ public abstract class World implements DebuggableText {
 	 * @param type The type of Component which should be returned
 	 */
 	public final <T extends Component> Collection<UIElement> getUIElementsWithComponent(Class<T> type) {
-		ArrayList<UIElement> elements = new ArrayList<>();
-		for (UIElement e : this.uiElements) {
-			if (!e.getComponents(type).isEmpty()) {
-				elements.add(e);
-			}
-		}
-
-		return Collections.unmodifiableCollection(elements);
+		return this.uiComponentIndex.get(type).view();
 	}
 
 	/**
@@ -580,6 +860,7 @@ public abstract class World implements DebuggableText {
 
 				unregisterUIElementComponents(last);
 				it.remove();
+				uiComponentIndex.remove(last);
 				last = null;
 			}
 		};
@@ -636,7 +917,36 @@ public abstract class World implements DebuggableText {
 		return this.viewport;
 	}
 
-	public abstract Chunk generateChunk(ChunkIndex index);
+	public final long getSeed() {
+		return this.seed;
+	}
+
+	/**
+	 * Create the random generator for the generation of the chunk. Its values only depend on the seed of the world and the index of the chunk,
+	 * so a chunk is generated the same way regardless in which order and on which thread the chunks are generated.
+	 * 
+	 * @param index The index of the chunk
+	 * @return A new generator, use {@link SplittableRandom#split()} for independent parts of the generation
+	 */
+	protected final SplittableRandom createChunkRandom(ChunkIndex index) {
+		return new SplittableRandom(mix(this.seed ^ mix(ChunkMap.key(index))));
+	}
+
+	// Finalizer of SplitMix64, neighbouring indices get unrelated seeds
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * Prepare the generation of the chunk. This is called on the game thread and has to copy everything it needs from the world, e.g. the tiles of the neighbours.
+	 * The returned task runs on a worker thread, it must not access the world or the systems and only places the entities against each other.
+	 * 
+	 * @param index The index of the chunk to generate
+	 * @return The task generating the chunk
+	 */
+	protected abstract Supplier<ChunkPayload> prepareChunk(ChunkIndex index);
 
 	/**
 	 * Generates number of entities based on the size of the chunks and density
@@ -648,18 +958,37 @@ public abstract class World implements DebuggableText {
 	 * @return The amount of generated entities
 	 */
 	protected final <T extends Entity> int generateEntity(ChunkIndex index, double density, Function<WorldPos, T> createCallback) {
+		SpawnBatch batch = new SpawnBatch();
+		int amount = this.generateEntity(batch, ThreadLocalRandom.current(), index, density, createCallback);
+		this.spawnEntities(batch);
+		return amount;
+	}
+
+	/**
+	 * Generates number of entities based on the size of the chunks and density into the batch.
+	 * The entities are only spawned with {@link World#spawnEntities(SpawnBatch)}, until then placement tests consider the batch.
+	 *
+	 * @param <T> A Type of Entity
+	 * @param batch The batch the generated entities are added to
+	 * @param random The generator for the amount and the positions of the entities, e.g. from {@link World#createChunkRandom(ChunkIndex)}
+	 * @param index The index of the chunk where the entities should be spawned
+	 * @param density The density determines how many entities should be spawned in average for a chunk size of 8 scales with chunk size
+	 * @param createCallback A callback to create a instance of the entity. Return the entity to spawn or {@code null} if the current spawn should be abort
+	 * @return The amount of generated entities
+	 */
+	protected final <T extends Entity> int generateEntity(SpawnBatch batch, RandomGenerator random, ChunkIndex index, double density, Function<WorldPos, T> createCallback) {
 		double lambda = Chunk.CHUNK_SIZE / 8 * density;
 
 		String className = "Unknown";
 
-		int spawnCount = PoissonSampling.sample(lambda);
+		int spawnCount = PoissonSampling.sample(lambda, random);
 
 		// Retry for 1/4 of the requested entity count but at least once, prevents infinity loops
 		int retry = Math.max(1, spawnCount / 4);
 		int amount = 0;
 
 		for (int i = 0; i < spawnCount; i++) {
-			ChunkLocalPos pos = new ChunkLocalPos(ThreadLocalRandom.current().nextDouble() * Chunk.getChunkSize(), ThreadLocalRandom.current().nextDouble() * Chunk.getChunkSize());
+			ChunkLocalPos pos = new ChunkLocalPos(random.nextDouble() * Chunk.getChunkSize(), random.nextDouble() * Chunk.getChunkSize());
 
 			T entity = createCallback.apply(pos.toWorldPos(index));
 
@@ -673,8 +1002,9 @@ public abstract class World implements DebuggableText {
 				className = entity.getClass().getName();
 			}
 
-			// if collisions occur, cancel
-			if (PhysicsSystem.getInstance().testCollision(entity)) {
+			// if collisions with the world or the batch occur, cancel
+			if (batch.isOccupied(entity)) {
+				entity.release();
 				i--;
 				retry--;
 				if (retry > 0) {
@@ -684,10 +1014,8 @@ public abstract class World implements DebuggableText {
 				}
 			}
 
-			this.spawnEntity(entity);
-
-			// Add the entity so it is registered in physics system so it could be used for future collisions checks
-			this.update(0);
+			// The batch makes the entity visible to the placement tests of the following entities
+			batch.add(entity);
 			amount++;
 		}
 
@@ -703,24 +1031,128 @@ public abstract class World implements DebuggableText {
 		return amount;
 	}
 
+	/**
+	 * Returns the chunk if it is generated and in memory.
+	 * 
+	 * @param coord The index of the chunk
+	 */
 	public final Optional<Chunk> getChunk(ChunkIndex coord) {
 		return Optional.ofNullable(this.generatedChunks.get(coord));
 	}
 
+	/**
+	 * Read the chunk from the region files and spawn its stored entities again if it was written into them.
+	 * 
+	 * @param index The index of the chunk
+	 * @return The restored chunk or {@code null} if it is not stored
+	 */
+	private final Chunk restoreChunkIfStored(ChunkIndex index) {
+		Optional<RegionStore.StoredChunk> stored = this.regionStore.take(index);
+		if (stored.isEmpty()) {
+			return null;
+		}
+
+		Chunk chunk = Chunk.restore(this, index, stored.get().tiles());
+		if (!registerChunk(chunk)) {
+			System.err.println(String.format("Failed to register restored chunk %s to world", index.toString()));
+		}
+
+		SpawnBatch batch = new SpawnBatch();
+		for (RegionStore.StoredEntity entity : stored.get().entities()) {
+			batch.add(entity.create());
+		}
+		this.spawnEntities(batch);
+
+		this.chunksRestored++;
+		return chunk;
+	}
+
+	/**
+	 * Write the chunk with its entities into the region files and remove both from the world.
+	 * A chunk which is loaded or has entities which could not be stored is kept in memory.
+	 * 
+	 * @param chunk The chunk to evict
+	 * @return {@code true} if the chunk was evicted
+	 */
+	private final boolean evictChunk(Chunk chunk) {
+		ChunkIndex index = chunk.getIndex();
+		if (this.isChunkLoaded(index)) {
+			return false;
+		}
+
+		Set<Entity> set = this.entities.get(index);
+		Collection<Entity> stored = set != null ? new ArrayList<>(set) : Collections.emptyList();
+		if (!this.regionStore.write(index, chunk.isBlank() ? null : chunk.getTiles(), stored)) {
+			return false;
+		}
+
+		for (Entity entity : stored) {
+			// The entities of unloaded chunks are already unregistered from the systems
+			this.unregisterEntityComponentsIfRegistered(entity);
+			this.removeEntityFromChunk(entity);
+			this.unindexEntity(entity);
+		}
+		if (set != null && set.isEmpty()) {
+			this.entities.remove(index);
+		}
+
+		this.generatedChunks.remove(index);
+		this.chunkBakeCache.evict(chunk);
+		chunk.release();
+		this.chunksEvicted++;
+		return true;
+	}
+
+	/**
+	 * Evict all chunks outside of {@link Chunk#CHUNK_PERSIST} additional chunks around the viewport.
+	 */
+	private final void evictDistantChunks(ChunkIndex viewCenter, int chunkCountX, int chunkCountY) {
+		int minKeepX = viewCenter.x() + (int) Math.floor(-(chunkCountX + Chunk.CHUNK_PERSIST) / 2.0) - 1;
+		int maxKeepX = viewCenter.x() + (int) Math.ceil((chunkCountX + Chunk.CHUNK_PERSIST) / 2.0) + 1;
+		int minKeepY = viewCenter.y() + (int) Math.floor(-(chunkCountY + Chunk.CHUNK_PERSIST) / 2.0) - 1;
+		int maxKeepY = viewCenter.y() + (int) Math.ceil((chunkCountY + Chunk.CHUNK_PERSIST) / 2.0) + 1;
+
+		// Collect first, evicting removes the chunks from the map
+		ArrayList<Chunk> distant = new ArrayList<>();
+		for (int slot = 0; slot < this.generatedChunks.capacity(); slot++) {
+			if (!this.generatedChunks.isUsed(slot)) {
+				continue;
+			}
+			ChunkIndex index = this.generatedChunks.valueAt(slot).getIndex();
+			if (index.x() < minKeepX || index.x() > maxKeepX || index.y() < minKeepY || index.y() > maxKeepY) {
+				distant.add(this.generatedChunks.valueAt(slot));
+			}
+		}
+
+		for (Chunk chunk : distant) {
+			this.evictChunk(chunk);
+		}
+	}
+
 	public final boolean isChunkGenerated(ChunkIndex index) {
 		return this.generatedChunks.containsKey(index);
 	}
 
-	public final Set<ChunkIndex> getGeneratedChunks() {
-		return this.generatedChunks.keySet();
+	public final Collection<ChunkIndex> getGeneratedChunks() {
+		ArrayList<ChunkIndex> indices = new ArrayList<>(this.generatedChunks.size());
+		for (int slot = 0; slot < this.generatedChunks.capacity(); slot++) {
+			if (this.generatedChunks.isUsed(slot)) {
+				indices.add(this.generatedChunks.valueAt(slot).getIndex());
+			}
+		}
+		return Collections.unmodifiableCollection(indices);
 	}
 
 	public final boolean isChunkLoaded(ChunkIndex index) {
-		return this.loadedChunks.getOrDefault(index, false);
+		return this.loadedChunkPositions.containsKey(index);
 	}
 
-	public final Set<ChunkIndex> getLoadedChunks() {
-		return this.loadedChunks.keySet();
+	/**
+	 * Returns the loaded chunks.
+	 * The returned list is a live view and is not allocated per call.
+	 */
+	public final List<ChunkIndex> getLoadedChunks() {
+		return Collections.unmodifiableList(this.loadedChunks);
 	}
 
 	public final boolean isChunkQueuedForGeneration(ChunkIndex index) {
@@ -750,11 +1182,141 @@ public abstract class World implements DebuggableText {
 	}
 
 	/**
-	 * Generate chunks from the queue.
+	 * Commit the chunks finished by the workers and hand queued chunks to the workers.
 	 * 
-	 * @param maxChunks The maximum amount of chunks generated with this call
+	 * @param maxChunks The maximum amount of chunks committed or restored with this call
 	 */
 	public final void processGenerationQueue(int maxChunks) {
+		int committed = 0;
+		while (committed < maxChunks) {
+			GeneratedChunk generated = this.generatedPayloads.poll();
+			if (generated == null) {
+				break;
+			}
+			this.generationInFlight.remove(generated.index());
+			// A failed chunk is enqueued again by the next update of the loaded chunks
+			if (generated.payload() == null) {
+				continue;
+			}
+
+			this.lastChunkGenerationLatency = System.currentTimeMillis() - generated.submittedAt();
+			this.commitChunk(generated.payload());
+			committed++;
+		}
+
+		while (this.generationInFlight.size() < MAX_GENERATION_IN_FLIGHT && !this.generationQueue.isEmpty()) {
+			ChunkIndex index = this.generationQueue.peek();
+			// Revisited chunks are restored from the region files instead of generating them again
+			boolean stored = this.regionStore.contains(index);
+			if (stored && committed >= maxChunks) {
+				break;
+			}
+			this.generationQueue.poll();
+
+			if (this.generatedChunks.containsKey(index) || this.generationInFlight.contains(index)) {
+				continue;
+			}
+			if (stored) {
+				this.restoreChunkIfStored(index);
+				this.loadChunkIfInRange(index);
+				committed++;
+				continue;
+			}
+			this.submitChunk(index);
+		}
+	}
+
+	/**
+	 * Generate all queued chunks on the game thread, e.g. for the chunks around the spawn.
+	 */
+	protected final void generateQueuedChunks() {
+		while (!this.generationQueue.isEmpty()) {
+			ChunkIndex index = this.generationQueue.poll();
+			if (this.generatedChunks.containsKey(index) || this.generationInFlight.contains(index)) {
+				continue;
+			}
+			if (this.restoreChunkIfStored(index) != null) {
+				this.loadChunkIfInRange(index);
+				continue;
+			}
+
+			long start = System.currentTimeMillis();
+			ChunkPayload payload = this.prepareChunk(index).get();
+			this.lastChunkGenerationLatency = System.currentTimeMillis() - start;
+			this.commitChunk(payload);
+		}
+	}
+
+	/**
+	 * Hand the chunk to the workers. Chunks which are in loading range are baked by the worker as well.
+	 * 
+	 * @param index The index of the chunk to generate
+	 */
+	private final void submitChunk(ChunkIndex index) {
+		Supplier<ChunkPayload> task = this.prepareChunk(index);
+		boolean bake = this.isInLoadRange(index);
+		long submittedAt = System.currentTimeMillis();
+
+		this.generationInFlight.add(index);
+		this.generationWorkers.execute(() -> {
+			ChunkPayload payload = null;
+			try {
+				payload = task.get();
+				if (bake) {
+					payload.chunk().bake(null);
+				}
+			} catch (RuntimeException e) {
+				System.err.println(String.format("Failed to generate chunk %s: %s", index.toString(), e.toString()));
+			}
+			this.generatedPayloads.add(new GeneratedChunk(index, payload, submittedAt));
+		});
+	}
+
+	/**
+	 * Register the generated chunk and spawn its entities, entities which collide with the entities of the world are dropped.
+	 * 
+	 * @param payload The generated chunk
+	 */
+	private final void commitChunk(ChunkPayload payload) {
+		Chunk chunk = payload.chunk();
+		ChunkIndex index = chunk.getIndex();
+		if (!registerChunk(chunk)) {
+			System.err.println(String.format("Failed to register chunk %s to world", index.toString()));
+			payload.entities().forEach(Entity::release);
+			return;
+		}
+		this.chunkBakeCache.adopt(chunk);
+
+		SpawnBatch batch = new SpawnBatch();
+		for (Entity entity : payload.entities()) {
+			if (batch.isOccupied(entity)) {
+				entity.release();
+				continue;
+			}
+			batch.add(entity);
+		}
+		this.spawnEntities(batch);
+
+		this.loadChunkIfInRange(index);
+	}
+
+	private final void loadChunkIfInRange(ChunkIndex index) {
+		if (this.isInLoadRange(index)) {
+			loadChunk(index);
+		} else {
+			if (!DebugSystem.getInstance().unregisterDebuggable(index)) {
+				System.err.println(String.format("Failed to unregister chunk index %s from debug system", index.toString()));
+			}
+		}
+	}
+
+	/**
+	 * @param index The index of the chunk
+	 * @return {@code true} if the chunk is in loading range of the current viewport
+	 */
+	private final boolean isInLoadRange(ChunkIndex index) {
+		ChunkIndex viewCenter = Viewport.getCenter().toWorldPos(this).toChunkIndex();
+
 		int chunkCountX = (int) Math.ceil(Viewport.getScreenWidth() / Chunk.getChunkSize());
 		int chunkCountY = (int) Math.ceil(Viewport.getScreenHeight() / Chunk.getChunkSize());
 		int minLoadX = (int) Math.floor(-(chunkCountX + Chunk.CHUNK_LOADING) / 2.0) - 1;
@@ -762,25 +1324,9 @@ public abstract class World implements DebuggableText {
 		int minLoadY = (int) Math.floor(-(chunkCountY + Chunk.CHUNK_LOADING) / 2.0) - 1;
 		int maxLoadY = (int) Math.ceil((chunkCountY + Chunk.CHUNK_LOADING) / 2.0) + 1;
 
-		long start;
-		for (int i = 0; i < maxChunks && !generationQueue.isEmpty(); i++) {
-			ChunkIndex index = generationQueue.poll();
-			if (index != null && !generatedChunks.containsKey(index)) {
-				start = System.currentTimeMillis();
-				Chunk chunk = generateChunk(index);
-				this.lastChunkGenerationTime = (System.currentTimeMillis() - start);
-				if (!registerChunk(chunk)) {
-					System.err.println(String.format("Failed to register chunk %s to world", index.toString()));
-				}
-				if (minLoadX < index.x() && index.x() <= maxLoadX && minLoadY < index.y() && index.y() <= maxLoadY) {
-					loadChunk(index);
-				} else {
-					if (!DebugSystem.getInstance().unregisterDebuggable(index)) {
-						System.err.println(String.format("Failed to unregister chunk index %s from debug system", index.toString()));
-					}
-				}
-			}
-		}
+		int x = index.x() - viewCenter.x();
+		int y = index.y() - viewCenter.y();
+		return minLoadX < x && x <= maxLoadX && minLoadY < y && y <= maxLoadY;
 	}
 
 	/**
@@ -799,6 +1345,7 @@ public abstract class World implements DebuggableText {
 			System.err.println(String.format("Failed to register chunk index %s to debug system", index.toString()));
 		}
 		getChunk(index).ifPresent(chunk -> {
+			chunkBakeCache.acquire(chunk);
 			if (!DebugSystem.getInstance().registerDebuggable(chunk)) {
 				System.err.println(String.format("Failed to register chunk %s to debug system", index.toString()));
 			}
@@ -806,11 +1353,11 @@ public abstract class World implements DebuggableText {
 				System.err.println(String.format("Failed to register chunk %s to graphic system", index.toString()));
 			}
 		});
-		loadedChunks.put(index, true);
+		if (loadedChunkPositions.putIfAbsent(index, loadedChunks.size()) == null) {
+			loadedChunks.add(index);
+		}
 
-		getEntitiesInChunk(index).forEach(entity -> {
-			registerEntityComponents(entity);
-		});
+		registerEntitiesComponents(getEntitiesInChunk(index));
 	}
 
 	private final void unloadChunk(ChunkIndex index) {
@@ -824,8 +1371,17 @@ public abstract class World implements DebuggableText {
 			if (!GraphicSystem.getInstance().unregisterDrawable(chunk)) {
 				System.err.println(String.format("Failed to unregister chunk %s from graphic system", index.toString()));
 			}
+			chunkBakeCache.retire(chunk);
 		});
-		loadedChunks.put(index, false);
+		Integer position = loadedChunkPositions.remove(index);
+		if (position != null) {
+			// Move the last loaded chunk into the gap
+			ChunkIndex lastIndex = loadedChunks.remove(loadedChunks.size() - 1);
+			if (position < loadedChunks.size()) {
+				loadedChunks.set(position, lastIndex);
+				loadedChunkPositions.put(lastIndex, position);
+			}
+		}
 
 		getEntitiesInChunk(index).forEach(entity -> {
 			unregisterEntityComponents(entity);
@@ -837,9 +1393,7 @@ public abstract class World implements DebuggableText {
 	}
 
 	public final int getLoadedChunksSize() {
-		Collection<Boolean> values = this.loadedChunks.values();
-		values.removeIf(v -> !v);
-		return values.size();
+		return this.loadedChunks.size();
 	}
 
 	public final int getGenerationQueueSize() {
@@ -885,23 +1439,25 @@ public abstract class World implements DebuggableText {
 		}
 
 		// Unload chunks which should be no longer loaded
-		Iterator<ChunkIndex> loadedIterator = this.loadedChunks.keySet().iterator();
-		while (loadedIterator.hasNext()) {
-			ChunkIndex index = loadedIterator.next();
+		// Iterate backwards, so unloading moves an already visited chunk to the current position
+		for (int i = this.loadedChunks.size() - 1; i >= 0; i--) {
+			ChunkIndex index = this.loadedChunks.get(i);
 
 			if (!desired.contains(index)) {
 				unloadChunk(index);
-				loadedIterator.remove();
 			}
 		}
 
 		// Load missing chunks which should be loaded
 		for (ChunkIndex index : desired) {
-			if (!this.loadedChunks.containsKey(index)) {
+			if (!this.loadedChunkPositions.containsKey(index)) {
 				loadChunk(index);
 			}
 		}
 
+		// Write chunks far away into the region files
+		this.evictDistantChunks(viewCenter, chunkCountX, chunkCountY);
+
 		this.generationQueue.sort();
 	}
 
@@ -918,19 +1474,19 @@ public abstract class World implements DebuggableText {
 	public ArrayList<String> getTextElements() {
 		ArrayList<String> elements = new ArrayList<>();
 
-		int entityCount = 0;
-		for (Set<Entity> chunk : this.entities.values()) {
-			entityCount += chunk.size();
-		}
-
+		elements.add(String.format("Seed: %d", this.seed));
 		elements.add(String.format("Chunks Loaded: %d", this.getLoadedChunksSize()));
 		elements.add(String.format("Chunks Generated: %d", this.getGeneratedChunksSize()));
+		elements.add(String.format("Chunks Baked: %d loaded, %d warm, %.1f MB, %d bakes", this.getLoadedChunksSize(), this.chunkBakeCache.getWarmCount(), this.chunkBakeCache.getBakedBytes() / (1024.0 * 1024.0), this.chunkBakeCache.getBakeCount()));
 		elements.add(String.format("Chunks Queued: %d", this.getGenerationQueueSize()));
-		elements.add(String.format("Generation time: %d ms", this.lastChunkGenerationTime));
-		elements.add(String.format("Entities registered: %d", entityCount));
+		elements.add(String.format("Chunks Stored: %d in %d regions (evicted %d, restored %d)", this.regionStore.size(), this.regionStore.getRegionCount(), this.chunksEvicted, this.chunksRestored));
+		elements.add(String.format("Generation latency: %d ms, %d in flight", this.lastChunkGenerationLatency, this.generationInFlight.size()));
+		elements.add(String.format("Entities registered: %d", this.entityRegistry.size()));
 		elements.add(String.format("Entities add queue: %d", this.pendingAdditions.size()));
 		elements.add(String.format("Entities remove queue: %d", this.pendingRemovals.size()));
 		elements.add(String.format("Entities chunk switch queue: %d", this.pendingChunkMoves.size()));
+		elements.add(String.format("Entities indexed component types: %d", this.componentIndex.size()));
+		elements.add(String.format("Entities despawned: %d this pass, %d last pass, %d total", this.despawnedInPass, this.despawnedLastPass, this.despawnedTotal));
 		return elements;
 	}
 }
@@ -1,11 +1,14 @@
 package ZombieGame.World;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.SplittableRandom;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 
 import ZombieGame.Entities.*;
 import ZombieGame.Viewport;
-import ZombieGame.Algorithms.GaussianBlur;
 import ZombieGame.Coordinates.ChunkIndex;
 import ZombieGame.Coordinates.Offset;
 import ZombieGame.Coordinates.WorldPos;
@@ -19,14 +22,26 @@ import ZombieGame.Systems.Physic.PhysicsSystem;
 public class ZombieWorld extends World {
 	private double zombieTime = 0;
 	private boolean debugGeneration = false;
+	private final TerrainSource terrain;
 	public final double SPAWN_INTERVAL = 1.0; // secondes
 	private final double ZOMBIE_BASE_DENSITY = 4.0;
 	private final double ZOMBIE_MAX_DENSITY = 20.0;
 	private final double ZOMBIE_GROWTH = 0.08;
 	private final double CURVE = 1.8;
 
+	/**
+	 * World with a random seed
+	 */
 	public ZombieWorld() {
-		super();
+		this(ThreadLocalRandom.current().nextLong());
+	}
+
+	/**
+	 * @param seed The seed the chunks are generated from
+	 */
+	public ZombieWorld(long seed) {
+		super(seed);
+		this.terrain = new NoiseTerrain(seed);
 		// add the Avatar
 		this.spawnEntity(new Avatar(Viewport.getBottomCenter().sub(new Offset(0, Viewport.getScreenHeight() / 3)).toWorldPos(this)));
 
@@ -44,7 +59,7 @@ public class ZombieWorld extends World {
 			}
 		}
 
-		this.processGenerationQueue(this.getGenerationQueueSize());
+		this.generateQueuedChunks();
 
 		this.update(0);
 		this.updateLoadedChunks();
@@ -63,8 +78,8 @@ public class ZombieWorld extends World {
 
 		if (this.zombieTime > SPAWN_INTERVAL) {
 			// Select random loaded chunk
-			Object[] loaded = getLoadedChunks().toArray();
-			ChunkIndex index = (ChunkIndex) loaded[Math.min(loaded.length - 1, Math.max(0, (int) Math.floor(ThreadLocalRandom.current().nextDouble() * loaded.length)))];
+			List<ChunkIndex> loaded = getLoadedChunks();
+			ChunkIndex index = loaded.get(ThreadLocalRandom.current().nextInt(loaded.size()));
 
 			// Spawn zombies in it
 			this.zombieTime -= SPAWN_INTERVAL * Math.max(1, this.generateEntity(index, Math.min(ZOMBIE_BASE_DENSITY * Math.pow((1 + ZOMBIE_GROWTH * getWorldTimeSeconds() / 60), CURVE), ZOMBIE_MAX_DENSITY), pos -> spawnZombie(pos)));
@@ -87,8 +102,9 @@ public class ZombieWorld extends World {
 		}
 
 		// if collisions occur, cancel
-		Zombie zombie = randomZombieType(pos);
+		Zombie zombie = randomZombieType(pos, ThreadLocalRandom.current());
 		if (PhysicsSystem.getInstance().testCollision(zombie)) {
+			zombie.release();
 			this.zombieTime += SPAWN_INTERVAL;
 			return null;
 		}
@@ -96,8 +112,8 @@ public class ZombieWorld extends World {
 		return zombie;
 	}
 
-	private Zombie randomZombieType(WorldPos pos) {
-		double r = Math.random();
+	private Zombie randomZombieType(WorldPos pos, RandomGenerator random) {
+		double r = random.nextDouble();
 		if (r < 0.55) {
 			return new BigZombie(pos);
 		} else if (r < 0.90) {
@@ -107,131 +123,69 @@ public class ZombieWorld extends World {
 		}
 	}
 
-	// BUG: This generation technic can has hard cuts at chunk borders because of the diagonal constrains
 	@Override
-	public Chunk generateChunk(ChunkIndex index) {
-		// radius ≤ CHUNK_SIZE / 6
-		final int BLUR_RADIUS = 2;
-		// sigma ≈ radius × 0.7
-		final float SIGMA = 1.9f;
-
-		int W = Chunk.DATA_SIZE + 2 * BLUR_RADIUS;
-		double[][] tileData = new double[W][W];
-		double[][] takeOverTileData = new double[W][W];
-		Chunk currentTempChunk = new Chunk(this, index);
-
-		// Fill with random values
-		for (int y = 0; y < tileData.length; y++) {
-			boolean isTopChunk = y < BLUR_RADIUS + 1;
-			boolean isBottomChunk = y >= Chunk.DATA_SIZE + BLUR_RADIUS - 1;
-
-			for (int x = 0; x < tileData[y].length; x++) {
-				boolean isLeftChunk = x < BLUR_RADIUS + 1;
-				boolean isRightChunk = x >= Chunk.DATA_SIZE + BLUR_RADIUS - 1;
-
-				// Getting the tile from chunk to the side to fill the existing values in
-				if (isTopChunk || isBottomChunk || isLeftChunk || isRightChunk) {
-					int offsetY = -BLUR_RADIUS;
-					int offsetX = -BLUR_RADIUS;
-					if (isTopChunk) {
-						offsetY = -(BLUR_RADIUS + 1);
-					} else if (isBottomChunk) {
-						offsetY = 1;
-					}
-
-					if (isLeftChunk) {
-						offsetX = -(BLUR_RADIUS + 1);
-					} else if (isRightChunk) {
-						offsetX = 1;
-					}
-
-					TileType tileType = currentTempChunk.getTile(x + offsetX, y + offsetY).orElse(null);
-
-					if (tileType != null) {
-						tileData[y][x] = tileType.getValue();
-						takeOverTileData[y][x] = tileType.getValue();
-						continue;
-					}
-				}
-
-				tileData[y][x] = ThreadLocalRandom.current().nextDouble();
-				takeOverTileData[y][x] = Double.NaN;
-			}
-		}
-
-		if (debugGeneration) {
-			GraphicSystem.getInstance().saveAsGreyScaleImage(tileData, tileData.length, tileData[0].length, String.format("ChunkGeneration/rng/%d_%d_chunk_rng.png", index.x(), index.y()));
-		}
-
-		// Smooth the random values
-		tileData = GaussianBlur.blur(tileData, BLUR_RADIUS, SIGMA);
-
-		if (debugGeneration) {
-			GraphicSystem.getInstance().saveAsGreyScaleImage(tileData, tileData.length, tileData[0].length, String.format("ChunkGeneration/blur/%d_%d_chunk_blur.png", index.x(), index.y()));
-		}
+	protected Supplier<ChunkPayload> prepareChunk(ChunkIndex index) {
+		// The chunk does not depend on its neighbours, so everything runs on the worker
+		SplittableRandom random = this.createChunkRandom(index);
+		return () -> this.generateChunk(index, random);
+	}
 
-		// Find min and max of the blurred map
-		double min = Double.POSITIVE_INFINITY;
-		double max = Double.NEGATIVE_INFINITY;
-		for (int y = 0; y < tileData.length; y++) {
-			for (int x = 0; x < tileData[y].length; x++) {
-				double v = tileData[y][x];
-				if (v < min) {
-					min = v;
-				}
-				if (v > max) {
-					max = v;
-				}
-			}
-		}
+	/**
+	 * Generate the tiles and the entities of the chunk without accessing the world.
+	 * 
+	 * @param index The index of the chunk
+	 * @param random The generator of the chunk for the entities
+	 */
+	private ChunkPayload generateChunk(ChunkIndex index, SplittableRandom random) {
+		// Chunks share their edges, so the tile data of the chunk starts at the last row and column of the previous chunk
+		int originX = index.x() * (Chunk.DATA_SIZE - 1);
+		int originY = index.y() * (Chunk.DATA_SIZE - 1);
 
-		double[][] t = new double[Chunk.DATA_SIZE][Chunk.DATA_SIZE];
 		TileType[][] tiles = new TileType[Chunk.DATA_SIZE][Chunk.DATA_SIZE];
 		for (int y = 0; y < tiles.length; y++) {
 			for (int x = 0; x < tiles[y].length; x++) {
-				if (Double.isFinite(takeOverTileData[y + BLUR_RADIUS][x + BLUR_RADIUS])) {
-					// If take over data from other chunk exists use it
-					tiles[y][x] = TileType.select(takeOverTileData[y + BLUR_RADIUS][x + BLUR_RADIUS]);
-					t[y][x] = tiles[y][x].getValue();
-				} else {
-					// Map everything to 0..1
-					tileData[y + BLUR_RADIUS][x + BLUR_RADIUS] = (tileData[y + BLUR_RADIUS][x + BLUR_RADIUS] - min) / (max - min);
-
-					// Convert the random values to TileTypes
-					tiles[y][x] = TileType.select(tileData[y + BLUR_RADIUS][x + BLUR_RADIUS]);
-					t[y][x] = tiles[y][x].getValue();
-				}
+				tiles[y][x] = this.terrain.getTile(originX + x, originY + y);
 			}
 		}
 
 		if (debugGeneration) {
-			GraphicSystem.getInstance().saveAsGreyScaleImage(tileData, tileData.length, tileData[0].length, String.format("ChunkGeneration/normalized/%d_%d_chunk_normalized.png", index.x(), index.y()));
-		}
-
-		if (debugGeneration) {
+			double[][] t = new double[Chunk.DATA_SIZE][Chunk.DATA_SIZE];
+			double[][] noise = new double[Chunk.DATA_SIZE][Chunk.DATA_SIZE];
+			for (int y = 0; y < tiles.length; y++) {
+				for (int x = 0; x < tiles[y].length; x++) {
+					t[y][x] = tiles[y][x].getValue();
+					if (this.terrain instanceof NoiseTerrain noiseTerrain) {
+						noise[y][x] = noiseTerrain.getValue(originX + x, originY + y);
+					}
+				}
+			}
+			GraphicSystem.getInstance().saveAsGreyScaleImage(noise, noise.length, noise[0].length, String.format("ChunkGeneration/noise/%d_%d_chunk_noise.png", index.x(), index.y()));
 			GraphicSystem.getInstance().saveAsGreyScaleImage(t, t.length, t[0].length, String.format("ChunkGeneration/tiles/%d_%d_chunk_tiles.png", index.x(), index.y()));
 		}
 
+		// The entities are only placed against each other, the world checks them against its entities when the chunk is committed
+		SpawnBatch batch = SpawnBatch.detached();
+
 		// Generate tree in chunk
-		this.generateEntity(index, 4, pos -> new Tree1(pos));
-		this.generateEntity(index, 4, pos -> new Tree2(pos));
-		this.generateEntity(index, 4, pos -> new Tree3(pos));
-		this.generateEntity(index, 4, pos -> new Tree10(pos));
+		this.generateEntity(batch, random, index, 4, pos -> new Tree1(pos));
+		this.generateEntity(batch, random, index, 4, pos -> new Tree2(pos));
+		this.generateEntity(batch, random, index, 4, pos -> new Tree3(pos));
+		this.generateEntity(batch, random, index, 4, pos -> new Tree10(pos));
 
 		// Add loot
-		this.generateEntity(index, 0.25, pos -> new Ammunition(pos));
-		this.generateEntity(index, 0.15, pos -> new FirstAidKit(pos));
-		this.generateEntity(index, 0.15, pos -> new Gun(pos));
-		this.generateEntity(index, 0.15, pos -> new Shotgun(pos));
-		this.generateEntity(index, 0.2, pos -> new Pistol(pos));
+		this.generateEntity(batch, random, index, 0.25, pos -> new Ammunition(pos));
+		this.generateEntity(batch, random, index, 0.15, pos -> new FirstAidKit(pos));
+		this.generateEntity(batch, random, index, 0.15, pos -> new Gun(pos));
+		this.generateEntity(batch, random, index, 0.15, pos -> new Shotgun(pos));
+		this.generateEntity(batch, random, index, 0.2, pos -> new Pistol(pos));
 
 		// Add Zombies to chunk
-		this.generateEntity(index, 1.0, pos -> randomZombieType(pos));
+		this.generateEntity(batch, random, index, 1.0, pos -> randomZombieType(pos, random));
 
 		Chunk res = new Chunk(this, index, tiles);
 		if (debugGeneration) {
 			res.exportBakedChunk("ChunkGeneration/chunks/");
 		}
-		return res;
+		return new ChunkPayload(res, batch.getEntities());
 	}
 }